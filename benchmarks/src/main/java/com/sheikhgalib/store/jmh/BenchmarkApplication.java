@@ -0,0 +1,58 @@
+package com.sheikhgalib.store.jmh;
+
+import com.sheikhgalib.store.StoreApplication;
+import com.sheikhgalib.store.entity.Department;
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.repository.DepartmentRepository;
+import com.sheikhgalib.store.service.StudentService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the whole application with the {@code bench} profile, against an
+ * embedded database. Each benchmark state starts one in
+ * its trial setup and closes it in its trial teardown, so trials with
+ * different parameters never share data.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    /** Starts the application; {@code args} are command-line style overrides, e.g. "--key=value". */
+    static ConfigurableApplicationContext start(String... args) {
+        SpringApplication application = new SpringApplicationBuilder(StoreApplication.class)
+                .profiles("bench")
+                .logStartupInfo(false)
+                .build();
+        return application.run(args);
+    }
+
+    /** Saves {@code rows} students into a fresh department, in batches like a bulk import. */
+    static Department seedStudents(ConfigurableApplicationContext context, int rows) {
+        Department department = new Department();
+        department.setName("Benchmark Department");
+        department = context.getBean(DepartmentRepository.class).save(department);
+        context.getBean(StudentService.class).saveAllStudents(newStudents(department, "seed", rows));
+        return department;
+    }
+
+    static List<Student> newStudents(Department department, String prefix, int rows) {
+        List<Student> students = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Student student = new Student();
+            student.setFirstName("Bench");
+            student.setLastName("Student" + i);
+            student.setEmail(prefix + "_" + i + "@bench.test");
+            student.setStudentId(prefix + "_" + i);
+            student.setPhone("555" + i);
+            student.setDepartment(department);
+            students.add(student);
+        }
+        return students;
+    }
+}
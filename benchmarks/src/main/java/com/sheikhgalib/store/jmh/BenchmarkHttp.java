@@ -0,0 +1,48 @@
+package com.sheikhgalib.store.jmh;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HTTP helpers for benchmarks that go through the embedded server, filters
+ * and security included.
+ */
+final class BenchmarkHttp {
+
+    private static final Pattern CSRF = Pattern.compile("name=\"_csrf\" value=\"([^\"]+)\"");
+
+    private BenchmarkHttp() {
+    }
+
+    static URI uri(ConfigurableApplicationContext context, String path) {
+        return URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + path);
+    }
+
+    /** Submits the login form with a fresh CSRF token; returns the path the server redirected to. */
+    static String login(HttpClient client, ConfigurableApplicationContext context, String username, String password)
+            throws IOException, InterruptedException {
+        String page = client.send(HttpRequest.newBuilder(uri(context, "/login")).GET().build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        Matcher matcher = CSRF.matcher(page);
+        if (!matcher.find()) {
+            throw new IllegalStateException("No CSRF token on login page");
+        }
+        String form = "username=" + URLEncoder.encode(username, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(password, StandardCharsets.UTF_8)
+                + "&_csrf=" + URLEncoder.encode(matcher.group(1), StandardCharsets.UTF_8);
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri(context, "/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        return URI.create(response.headers().firstValue("Location").orElse("")).getPath();
+    }
+}
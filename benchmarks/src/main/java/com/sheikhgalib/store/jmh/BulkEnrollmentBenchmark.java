@@ -0,0 +1,85 @@
+package com.sheikhgalib.store.jmh;
+
+import com.sheikhgalib.store.dto.BulkEnrollmentResult;
+import com.sheikhgalib.store.entity.Course;
+import com.sheikhgalib.store.entity.Department;
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.repository.StudentRepository;
+import com.sheikhgalib.store.service.CourseService;
+import com.sheikhgalib.store.service.EnrollmentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enrolling a whole cohort at once, by department and by a pasted id list.
+ * Every iteration enrolls into a fresh course, so each one inserts the full
+ * cohort.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class BulkEnrollmentBenchmark {
+
+    @Param({"1000", "5000"})
+    public int cohort;
+
+    private ConfigurableApplicationContext context;
+    private EnrollmentService enrollmentService;
+    private CourseService courseService;
+    private Department department;
+    private List<Long> studentIds;
+    private Long courseId;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkApplication.start();
+        enrollmentService = context.getBean(EnrollmentService.class);
+        courseService = context.getBean(CourseService.class);
+        department = BenchmarkApplication.seedStudents(context, cohort);
+        studentIds = context.getBean(StudentRepository.class).findByDepartmentId(department.getId()).stream()
+                .map(Student::getId)
+                .toList();
+    }
+
+    @Setup(Level.Iteration)
+    public void newCourse() {
+        Course course = new Course();
+        course.setName("Bulk Course " + round);
+        course.setCourseCode("BULK" + round++);
+        courseId = courseService.saveCourse(course).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public BulkEnrollmentResult enrollDepartment() {
+        return enrollmentService.enrollDepartment(courseId, department.getId());
+    }
+
+    @Benchmark
+    public BulkEnrollmentResult enrollStudents() {
+        return enrollmentService.enrollStudents(courseId, studentIds);
+    }
+}
@@ -0,0 +1,91 @@
+package com.sheikhgalib.store.jmh;
+
+import com.sheikhgalib.store.dto.EnrollmentOutcome;
+import com.sheikhgalib.store.entity.Course;
+import com.sheikhgalib.store.entity.Department;
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.repository.StudentRepository;
+import com.sheikhgalib.store.service.CourseService;
+import com.sheikhgalib.store.service.EnrollmentService;
+import com.sheikhgalib.store.service.StudentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write paths on existing rows: editing a student, and enrolling a student
+ * in a course and dropping them again, which goes through the seat stripes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EntityUpdateBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private ConfigurableApplicationContext context;
+    private StudentService studentService;
+    private EnrollmentService enrollmentService;
+    private Student student;
+    private Long courseId;
+    private long edits;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkApplication.start();
+        studentService = context.getBean(StudentService.class);
+        enrollmentService = context.getBean(EnrollmentService.class);
+        Department department = BenchmarkApplication.seedStudents(context, ROWS);
+        student = context.getBean(StudentRepository.class)
+                .findBy(ScrollPosition.offset(ROWS / 2), Sort.by("id"), Limit.of(1))
+                .getContent().get(0);
+
+        Course course = new Course();
+        course.setName("Benchmark Course");
+        course.setCourseCode("BENCH101");
+        course.setCapacity(ROWS);
+        course.setDepartment(department);
+        courseId = context.getBean(CourseService.class).saveCourse(course).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public Student updateStudent() {
+        student.setPhone(String.valueOf(edits++));
+        // Keep the returned copy, it carries the new version
+        student = studentService.saveStudent(student);
+        return student;
+    }
+
+    @Benchmark
+    public void enrollAndUnenroll(Blackhole blackhole) {
+        EnrollmentOutcome outcome = enrollmentService.enroll(student.getId(), courseId);
+        if (outcome != EnrollmentOutcome.ENROLLED) {
+            throw new IllegalStateException("Enrollment failed: " + outcome);
+        }
+        blackhole.consume(enrollmentService.unenroll(student.getId(), courseId));
+    }
+}
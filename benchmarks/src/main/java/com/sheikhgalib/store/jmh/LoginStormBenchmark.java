@@ -0,0 +1,78 @@
+package com.sheikhgalib.store.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.CookieManager;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * GET /login while background clients keep submitting failed logins. With
+ * no storm the score is the page alone; with one it shows whether password
+ * hashing starves requests that need no authentication.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LoginStormBenchmark {
+
+    @Param({"0", "100"})
+    public int stormClients;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest loginPage;
+    private ExecutorService storm;
+    private final AtomicBoolean running = new AtomicBoolean(true);
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkApplication.start();
+        client = HttpClient.newHttpClient();
+        loginPage = HttpRequest.newBuilder(BenchmarkHttp.uri(context, "/login")).GET().build();
+        storm = Executors.newFixedThreadPool(Math.max(1, stormClients));
+        for (int i = 0; i < stormClients; i++) {
+            storm.submit(() -> {
+                HttpClient stormClient = HttpClient.newBuilder().cookieHandler(new CookieManager()).build();
+                while (running.get()) {
+                    BenchmarkHttp.login(stormClient, context, "storm", "wrong");
+                }
+                return null;
+            });
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws InterruptedException {
+        running.set(false);
+        storm.shutdown();
+        storm.awaitTermination(30, TimeUnit.SECONDS);
+        context.close();
+    }
+
+    @Benchmark
+    public int loginPage() throws Exception {
+        return client.send(loginPage, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,87 @@
+package com.sheikhgalib.store.jmh;
+
+import com.sheikhgalib.store.search.SearchIndex;
+import com.sheikhgalib.store.search.SearchResult;
+import com.sheikhgalib.store.search.SearchType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full-text search over an on-disk index of synthetic people and courses.
+ * Queries cycle through first names, exact emails, full names and course
+ * subjects, so the score mixes cheap term lookups with phrase-like queries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SearchBenchmark {
+
+    private static final int QUERIES = 2_000;
+    private static final EnumSet<SearchType> ALL = EnumSet.allOf(SearchType.class);
+
+    @Param({"100000", "1000000"})
+    public int documents;
+
+    private Path indexDir;
+    private SearchIndex index;
+    private String[] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        indexDir = Files.createTempDirectory("search-benchmark");
+        index = new SearchIndex(indexDir.toString(), Duration.ofHours(1));
+        Random random = new Random(42);
+        for (int i = 0; i < documents; i++) {
+            index.index(SearchCorpus.document(i, random));
+        }
+        index.refresh();
+
+        queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String firstName = SearchCorpus.FIRST_NAMES[random.nextInt(SearchCorpus.FIRST_NAMES.length)];
+            queries[i] = switch (i % 4) {
+                case 0 -> firstName.toLowerCase();
+                case 1 -> "user" + random.nextInt(documents) + "@uni.edu";
+                case 2 -> firstName + " Surname" + random.nextInt(1000);
+                default -> SearchCorpus.SUBJECTS[random.nextInt(SearchCorpus.SUBJECTS.length)] + " advanced";
+            };
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        index.close();
+        FileSystemUtils.deleteRecursively(indexDir);
+    }
+
+    @Benchmark
+    public SearchResult search() {
+        String query = queries[next];
+        next = (next + 1) % QUERIES;
+        return index.search(query, ALL, 20);
+    }
+}
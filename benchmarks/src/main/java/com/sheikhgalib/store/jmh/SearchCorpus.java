@@ -0,0 +1,37 @@
+package com.sheikhgalib.store.jmh;
+
+import com.sheikhgalib.store.search.SearchDocument;
+import com.sheikhgalib.store.search.SearchType;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic people and courses for the search benchmarks: one document in
+ * ten is a course, one a teacher and the rest students, with names drawn
+ * from a small pool so prefixes and terms have realistic fan-out.
+ */
+final class SearchCorpus {
+
+    static final String[] FIRST_NAMES = {"Alice", "Bob", "Carol", "David", "Eve", "Frank", "Grace",
+            "Heidi", "Ivan", "Judy", "Mallory", "Niaj", "Olivia", "Peggy", "Rupert", "Sybil", "Trent", "Victor"};
+    static final String[] SUBJECTS = {"Algebra", "Biology", "Chemistry", "Databases", "Economics",
+            "Geometry", "History", "Networks", "Physics", "Statistics"};
+
+    private SearchCorpus() {
+    }
+
+    static SearchDocument document(int i, Random random) {
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = "Surname" + random.nextInt(1000);
+        return switch (i % 10) {
+            case 0 -> new SearchDocument(SearchType.COURSE, (long) i,
+                    SUBJECTS[random.nextInt(SUBJECTS.length)] + " " + (i % 500), "C" + i,
+                    List.of("C" + i), "An advanced course on " + SUBJECTS[random.nextInt(SUBJECTS.length)]);
+            case 1 -> new SearchDocument(SearchType.TEACHER, (long) i, firstName + " " + lastName,
+                    "user" + i + "@uni.edu", List.of("user" + i + "@uni.edu", "T" + i), null);
+            default -> new SearchDocument(SearchType.STUDENT, (long) i, firstName + " " + lastName,
+                    "user" + i + "@uni.edu", List.of("user" + i + "@uni.edu", "S" + i), null);
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package com.sheikhgalib.store.jmh;
+
+import com.sheikhgalib.store.entity.Course;
+import com.sheikhgalib.store.entity.Department;
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.repository.DepartmentRepository;
+import com.sheikhgalib.store.service.CourseService;
+import com.sheikhgalib.store.service.EnrollmentService;
+import com.sheikhgalib.store.service.StudentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parallel enrollments on one course with a capacity. Every thread enrolls
+ * and drops its own student, so all of them contend for the course's seat
+ * stripes; one stripe shows the single-row baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Threads(16)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SeatReservationBenchmark {
+
+    /** Enough students for any -t thread count the module is run with. */
+    private static final int STUDENTS = 512;
+
+    @Param({"1", "8"})
+    public int seatStripes;
+
+    private ConfigurableApplicationContext context;
+    private EnrollmentService enrollmentService;
+    private Long courseId;
+    private List<Long> studentIds;
+    private final AtomicInteger nextStudent = new AtomicInteger();
+
+    @State(Scope.Thread)
+    public static class Enroller {
+        Long studentId;
+
+        @Setup(Level.Trial)
+        public void pickStudent(SeatReservationBenchmark benchmark) {
+            studentId = benchmark.studentIds.get(benchmark.nextStudent.getAndIncrement());
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkApplication.start("--store.enrollment.seat-stripes=" + seatStripes);
+        enrollmentService = context.getBean(EnrollmentService.class);
+        Department department = new Department();
+        department.setName("Benchmark Department");
+        department = context.getBean(DepartmentRepository.class).save(department);
+        studentIds = context.getBean(StudentService.class)
+                .saveAllStudents(BenchmarkApplication.newStudents(department, "seat", STUDENTS))
+                .stream()
+                .map(Student::getId)
+                .toList();
+
+        Course course = new Course();
+        course.setName("Benchmark Course");
+        course.setCourseCode("BENCH101");
+        course.setCapacity(STUDENTS);
+        courseId = context.getBean(CourseService.class).saveCourse(course).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean enrollAndDrop(Enroller enroller) {
+        enrollmentService.enroll(enroller.studentId, courseId);
+        return enrollmentService.unenroll(enroller.studentId, courseId);
+    }
+}
@@ -0,0 +1,93 @@
+package com.sheikhgalib.store.jmh;
+
+import com.sheikhgalib.store.entity.Department;
+import com.sheikhgalib.store.entity.Student;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.View;
+import org.thymeleaf.spring6.view.ThymeleafViewResolver;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Renders student/list.html from an in-memory model, so the score is the
+ * template alone: no queries, no filters, no controller.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class StudentListRenderBenchmark {
+
+    @Param({"20", "100", "1000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private View view;
+    private Map<String, Object> model;
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+        context = BenchmarkApplication.start();
+        view = context.getBean(ThymeleafViewResolver.class).resolveViewName("student/list", Locale.ENGLISH);
+
+        Department department = new Department();
+        department.setId(1L);
+        department.setName("Benchmark Department");
+        List<Student> students = BenchmarkApplication.newStudents(department, "render", rows);
+        LongStream.range(0, rows).forEach(i -> students.get((int) i).setId(i + 1));
+
+        model = new HashMap<>();
+        model.put("students", students);
+        model.put("nextCursor", "bmV4dA");
+        model.put("all", false);
+        model.put("sort", "lastName");
+        model.put("dir", "asc");
+        model.put("size", 20);
+
+        // A teacher sees the edit and delete links, the most markup per row
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "teacher1", null, AuthorityUtils.createAuthorityList("ROLE_TEACHER")));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    public String render() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/student/list");
+        request.setAttribute(DispatcherServlet.WEB_APPLICATION_CONTEXT_ATTRIBUTE, (WebApplicationContext) context);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        view.render(model, request, response);
+        return response.getContentAsString();
+    }
+}
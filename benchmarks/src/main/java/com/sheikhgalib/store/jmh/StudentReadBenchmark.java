@@ -0,0 +1,106 @@
+package com.sheikhgalib.store.jmh;
+
+import com.sheikhgalib.store.dto.StudentSummary;
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.entity.WaitlistEntry;
+import com.sheikhgalib.store.repository.StudentRepository;
+import com.sheikhgalib.store.service.EnrollmentService;
+import com.sheikhgalib.store.service.StudentService;
+import com.sheikhgalib.store.service.WaitlistService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The service calls behind the student list and view pages, and the API
+ * list, at several table sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class StudentReadBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private StudentService studentService;
+    private EnrollmentService enrollmentService;
+    private WaitlistService waitlistService;
+    private Long studentId;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkApplication.start();
+        studentService = context.getBean(StudentService.class);
+        enrollmentService = context.getBean(EnrollmentService.class);
+        waitlistService = context.getBean(WaitlistService.class);
+        BenchmarkApplication.seedStudents(context, rows);
+        // A student from the middle of the table
+        studentId = context.getBean(StudentRepository.class)
+                .findBy(ScrollPosition.offset(rows / 2), Sort.by("id"), Limit.of(1))
+                .getContent().get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public Window<Student> listFirstPage() {
+        return studentService.getStudentPage(null, "lastName", "asc", null);
+    }
+
+    @Benchmark
+    public int listAllChunks() {
+        int count = 0;
+        ScrollPosition position = ScrollPosition.keyset();
+        Window<Student> chunk;
+        do {
+            chunk = studentService.getStudentChunk(position, "id", "asc");
+            count += chunk.size();
+            if (chunk.hasNext()) {
+                position = chunk.positionAt(chunk.size() - 1);
+            }
+        } while (chunk.hasNext());
+        return count;
+    }
+
+    /** Everything the view page loads, in the controller's order. */
+    @Benchmark
+    public void view(Blackhole blackhole) {
+        blackhole.consume(studentService.getViewVersion(studentId));
+        blackhole.consume(studentService.getStudentById(studentId));
+        blackhole.consume(enrollmentService.getEnrollmentsForStudent(studentId));
+        List<WaitlistEntry> waitlist = waitlistService.getWaitlistForStudent(studentId);
+        blackhole.consume(waitlistService.getPositions(waitlist));
+    }
+
+    @Benchmark
+    public Window<StudentSummary> apiFirstPage() {
+        return studentService.getStudentSummaryPage(null, "lastName", "asc", null);
+    }
+}
@@ -0,0 +1,88 @@
+package com.sheikhgalib.store.jmh;
+
+import com.sheikhgalib.store.entity.Department;
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.repository.DepartmentRepository;
+import com.sheikhgalib.store.repository.StudentRepository;
+import com.sheikhgalib.store.service.StudentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserting students: one at a time through saveStudent and as a batch
+ * through saveAllStudents. Rows are deleted after every invocation so each
+ * one inserts into the same table size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class StudentSaveBenchmark {
+
+    @Param({"1", "50", "500"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private StudentService studentService;
+    private StudentRepository studentRepository;
+    private Department department;
+    private int round;
+    private List<Student> students;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkApplication.start();
+        studentService = context.getBean(StudentService.class);
+        studentRepository = context.getBean(StudentRepository.class);
+        department = new Department();
+        department.setName("Benchmark Department");
+        department = context.getBean(DepartmentRepository.class).save(department);
+    }
+
+    @Setup(Level.Invocation)
+    public void newStudents() {
+        // Fresh entities and unique emails every time; saved ones carry ids
+        students = BenchmarkApplication.newStudents(department, "save" + round++, batchSize);
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteStudents() {
+        studentRepository.deleteAllByIdInBatch(students.stream().map(Student::getId).toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Student> saveAll() {
+        return studentService.saveAllStudents(students);
+    }
+
+    @Benchmark
+    public Student saveEach() {
+        Student last = null;
+        for (Student student : students) {
+            last = studentService.saveStudent(student);
+        }
+        return last;
+    }
+}
@@ -0,0 +1,70 @@
+package com.sheikhgalib.store.jmh;
+
+import com.sheikhgalib.store.search.PrefixIndex;
+import com.sheikhgalib.store.search.SearchType;
+import com.sheikhgalib.store.search.Suggestion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typeahead over the in-memory prefix index, for teacher names. Prefixes are
+ * one or more leading letters of a first name or surname, so short ones scan
+ * wide ranges of the index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SuggestBenchmark {
+
+    private static final int QUERIES = 2_000;
+    private static final EnumSet<SearchType> TEACHERS = EnumSet.of(SearchType.TEACHER);
+
+    @Param({"100000", "1000000"})
+    public int documents;
+
+    private PrefixIndex index;
+    private String[] prefixes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void start() {
+        index = new PrefixIndex();
+        Random random = new Random(42);
+        for (int i = 0; i < documents; i++) {
+            index.index(SearchCorpus.document(i, random));
+        }
+
+        prefixes = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String name = i % 2 == 0
+                    ? SearchCorpus.FIRST_NAMES[random.nextInt(SearchCorpus.FIRST_NAMES.length)]
+                    : "Surname" + random.nextInt(1000);
+            prefixes[i] = name.substring(0, 1 + random.nextInt(name.length()));
+        }
+    }
+
+    @Benchmark
+    public List<Suggestion> suggest() {
+        String prefix = prefixes[next];
+        next = (next + 1) % QUERIES;
+        return index.suggest(prefix, TEACHERS, 10);
+    }
+}
@@ -0,0 +1,72 @@
+package com.sheikhgalib.store.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.CookieManager;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The student list page, authenticated and JDBC-backed, requested by more
+ * concurrent clients than Tomcat has platform worker threads. Compares
+ * request handling on platform and on virtual threads; the throughput and
+ * sample modes give requests per millisecond and the latency percentiles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Threads(400)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ThreadingModeBenchmark {
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest studentList;
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+        context = BenchmarkApplication.start("--spring.threads.virtual.enabled=" + virtualThreads);
+        BenchmarkApplication.seedStudents(context, 1000);
+        client = HttpClient.newBuilder().cookieHandler(new CookieManager()).build();
+        String landing = BenchmarkHttp.login(client, context, "admin", "admin123");
+        if (!landing.equals("/dashboard")) {
+            throw new IllegalStateException("Login failed, redirected to " + landing);
+        }
+        studentList = HttpRequest.newBuilder(BenchmarkHttp.uri(context, "/student/list")).GET().build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public int studentList() throws Exception {
+        HttpResponse<Void> response = client.send(studentList, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET /student/list returned " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+}
@@ -0,0 +1,42 @@
+package com.sheikhgalib.store.loadtest;
+
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/** The requests a workload mix is made of, named as they appear in {@code --mix} and the report. */
+enum Endpoint {
+
+    STUDENT_LIST("student-list", Workload::studentList),
+    COURSE_VIEW("course-view", Workload::courseView),
+    LOGIN("login", Workload::login),
+    STUDENT_CREATE("student-create", Workload::studentCreate),
+    COURSE_CREATE("course-create", Workload::courseCreate),
+    TEACHER_CREATE("teacher-create", Workload::teacherCreate),
+    DEPARTMENT_CREATE("department-create", Workload::departmentCreate);
+
+    private final String label;
+    private final Function<Workload, CompletableFuture<HttpResponse<String>>> call;
+
+    Endpoint(String label, Function<Workload, CompletableFuture<HttpResponse<String>>> call) {
+        this.label = label;
+        this.call = call;
+    }
+
+    String label() {
+        return label;
+    }
+
+    CompletableFuture<HttpResponse<String>> call(Workload workload) {
+        return call.apply(workload);
+    }
+
+    static Endpoint byName(String label) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.label.equals(label))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint " + label + ", expected one of "
+                        + Arrays.stream(values()).map(Endpoint::label).toList()));
+    }
+}
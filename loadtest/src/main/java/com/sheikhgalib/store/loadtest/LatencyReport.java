@@ -0,0 +1,99 @@
+package com.sheikhgalib.store.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms and counters for the measured part of a
+ * run. Latencies are recorded in microseconds from each request's intended
+ * start, so time spent queued behind a slow server counts against it.
+ */
+final class LatencyReport {
+
+    private final Map<String, Stats> endpoints = new LinkedHashMap<>();
+
+    LatencyReport(Iterable<String> labels) {
+        labels.forEach(label -> endpoints.put(label, new Stats()));
+    }
+
+    void record(String endpoint, long latencyNanos, boolean succeeded) {
+        Stats stats = endpoints.get(endpoint);
+        stats.histogram.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        (succeeded ? stats.succeeded : stats.failed).increment();
+    }
+
+    /** An arrival that was not sent because too many requests were already outstanding. */
+    void drop(String endpoint) {
+        endpoints.get(endpoint).dropped.increment();
+    }
+
+    Map<String, Object> summary(LoadTestOptions options) {
+        double seconds = options.duration().minus(options.warmup()).toNanos() / 1e9;
+        Map<String, Object> byEndpoint = new LinkedHashMap<>();
+        Histogram total = new Histogram(3);
+        endpoints.forEach((label, stats) -> {
+            byEndpoint.put(label, stats.summary(stats.histogram, seconds));
+            total.add(stats.histogram);
+        });
+        Stats all = new Stats();
+        endpoints.values().forEach(stats -> {
+            all.succeeded.add(stats.succeeded.sum());
+            all.failed.add(stats.failed.sum());
+            all.dropped.add(stats.dropped.sum());
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("rate", options.rate());
+        report.put("duration", options.duration().toString());
+        report.put("warmup", options.warmup().toString());
+        report.put("mix", options.mix());
+        report.put("total", all.summary(total, seconds));
+        report.put("endpoints", byEndpoint);
+        return report;
+    }
+
+    void write(LoadTestOptions options, ObjectMapper objectMapper) throws IOException {
+        Path output = options.output().toAbsolutePath();
+        Files.createDirectories(output.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), summary(options));
+    }
+
+    private static final class Stats {
+
+        final Histogram histogram = new ConcurrentHistogram(3);
+        final LongAdder succeeded = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+
+        Map<String, Object> summary(Histogram histogram, double seconds) {
+            Map<String, Object> latency = new LinkedHashMap<>();
+            latency.put("p50", millis(histogram.getValueAtPercentile(50)));
+            latency.put("p99", millis(histogram.getValueAtPercentile(99)));
+            latency.put("p999", millis(histogram.getValueAtPercentile(99.9)));
+            latency.put("max", millis(histogram.getMaxValue()));
+            latency.put("mean", Math.round(histogram.getMean()) / 1000.0);
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", histogram.getTotalCount());
+            summary.put("succeeded", succeeded.sum());
+            summary.put("failed", failed.sum());
+            summary.put("dropped", dropped.sum());
+            summary.put("throughput", Math.round(succeeded.sum() / seconds * 10) / 10.0);
+            summary.put("latencyMs", latency);
+            return summary;
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.sheikhgalib.store.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sheikhgalib.store.StoreApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Starts the application on a random port with the {@code bench} profile
+ * (embedded H2 unless {@code --spring.datasource.*} says otherwise), logs in
+ * as each role and drives the endpoint mix with open-model arrivals: requests
+ * start on a Poisson schedule at {@code --rate} per second whether or not
+ * earlier ones have finished, so a slow server builds a queue instead of
+ * slowing the test down. Writes the per-endpoint report to {@code --output}.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(StoreApplication.class)
+                .profiles("bench")
+                .logStartupInfo(false)
+                .run(options.springArgs())) {
+            URI base = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            Workload workload = Workload.open(base, objectMapper);
+            LatencyReport report = new LatencyReport(options.mix().keySet());
+
+            System.out.printf("Driving %s at %.1f req/s for %s (first %s not measured)%n",
+                    base, options.rate(), options.duration(), options.warmup());
+            run(options, workload, report);
+            report.write(options, objectMapper);
+            System.out.println(objectMapper.writerWithDefaultPrettyPrinter()
+                    .writeValueAsString(report.summary(options).get("total")));
+            System.out.println("Report written to " + options.output().toAbsolutePath());
+        }
+    }
+
+    static void run(LoadTestOptions options, Workload workload, LatencyReport report) throws InterruptedException {
+        List<Endpoint> endpoints = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int totalWeight = 0;
+        for (Map.Entry<String, Integer> entry : options.mix().entrySet()) {
+            endpoints.add(Endpoint.byName(entry.getKey()));
+            totalWeight += entry.getValue();
+            cumulative.add(totalWeight);
+        }
+
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+        Random random = new Random();
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = start + options.duration().toNanos();
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+
+        for (long intended = start; intended < end;
+             intended += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos)) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            int pick = random.nextInt(totalWeight);
+            int index = 0;
+            while (cumulative.get(index) <= pick) {
+                index++;
+            }
+            Endpoint endpoint = endpoints.get(index);
+            boolean measured = intended >= measureFrom;
+            if (!inFlight.tryAcquire()) {
+                if (measured) {
+                    report.drop(endpoint.label());
+                }
+                continue;
+            }
+            long scheduled = intended;
+            endpoint.call(workload).whenComplete((response, failure) -> {
+                inFlight.release();
+                if (measured) {
+                    boolean succeeded = failure == null && Session.succeeded(response);
+                    report.record(endpoint.label(), System.nanoTime() - scheduled, succeeded);
+                }
+            });
+        }
+
+        // Let the tail finish so slow requests are counted rather than lost
+        if (!inFlight.tryAcquire(options.maxInFlight(), 60, TimeUnit.SECONDS)) {
+            System.out.println("Some requests were still outstanding after 60s and are not in the report");
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.sheikhgalib.store.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line options. {@code --name=value} pairs this class knows are
+ * consumed; everything else (e.g. {@code --spring.datasource.url=...}) is
+ * handed to Spring Boot.
+ */
+record LoadTestOptions(double rate, Duration duration, Duration warmup, Map<String, Integer> mix,
+                       int maxInFlight, Path output, String[] springArgs) {
+
+    static final String DEFAULT_MIX = "student-list=40,course-view=30,login=10,student-create=10,"
+            + "course-create=5,teacher-create=3,department-create=2";
+
+    static LoadTestOptions parse(String[] args) {
+        double rate = 50;
+        Duration duration = Duration.ofSeconds(60);
+        Duration warmup = Duration.ofSeconds(10);
+        String mix = DEFAULT_MIX;
+        int maxInFlight = 2000;
+        Path output = Path.of("target", "loadtest-report.json");
+        List<String> springArgs = new ArrayList<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            String name = equals < 0 ? arg : arg.substring(0, equals);
+            String value = equals < 0 ? "" : arg.substring(equals + 1);
+            switch (name) {
+                case "--rate" -> rate = Double.parseDouble(value);
+                case "--duration" -> duration = Duration.parse(value);
+                case "--warmup" -> warmup = Duration.parse(value);
+                case "--mix" -> mix = value;
+                case "--max-in-flight" -> maxInFlight = Integer.parseInt(value);
+                case "--output" -> output = Path.of(value);
+                default -> springArgs.add(arg);
+            }
+        }
+        if (rate <= 0) {
+            throw new IllegalArgumentException("--rate must be positive: " + rate);
+        }
+        if (warmup.compareTo(duration) >= 0) {
+            throw new IllegalArgumentException("--warmup must be shorter than --duration");
+        }
+        return new LoadTestOptions(rate, duration, warmup, parseMix(mix), maxInFlight, output,
+                springArgs.toArray(String[]::new));
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mix entries look like endpoint=weight: " + entry);
+            }
+            Endpoint.byName(parts[0].trim());
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(parts[0].trim(), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("--mix has no endpoint with a positive weight");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,101 @@
+package com.sheikhgalib.store.loadtest;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * One browser: its own cookie jar and the CSRF token of its current
+ * session. Redirects are not followed, so a POST is timed on its own and a
+ * redirect back to the login page can be told apart from success.
+ */
+final class Session {
+
+    private static final Pattern CSRF = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI base;
+    private final HttpClient client;
+    private volatile String csrf;
+
+    Session(URI base) {
+        this.base = base;
+        this.client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(TIMEOUT)
+                .build();
+    }
+
+    CompletableFuture<HttpResponse<String>> get(String path) {
+        HttpRequest request = HttpRequest.newBuilder(base.resolve(path)).timeout(TIMEOUT).GET().build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenApply(this::keepCsrf);
+    }
+
+    /** Posts a form with this session's CSRF token added. */
+    CompletableFuture<HttpResponse<String>> post(String path, Map<String, String> form) {
+        String body = form.entrySet().stream()
+                .map(field -> encode(field.getKey()) + '=' + encode(field.getValue()))
+                .collect(Collectors.joining("&", "_csrf=" + encode(csrf == null ? "" : csrf) + '&', ""));
+        HttpRequest request = HttpRequest.newBuilder(base.resolve(path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenApply(this::keepCsrf);
+    }
+
+    /**
+     * Loads the login page and submits it, as a browser does. Completes with
+     * the form POST's response; it redirects to the dashboard on success.
+     */
+    CompletableFuture<HttpResponse<String>> login(String username, String password) {
+        return get("/login").thenCompose(page -> post("/login", Map.of("username", username, "password", password)));
+    }
+
+    /** Logs in and loads the dashboard for a CSRF token that is valid after login. */
+    void open(String username, String password) {
+        HttpResponse<String> response = login(username, password).join();
+        if (!succeeded(response)) {
+            throw new IllegalStateException("Login as " + username + " failed: " + response.statusCode()
+                    + " " + response.headers().firstValue("Location").orElse(""));
+        }
+        get("/dashboard").join();
+    }
+
+    /** 2xx, or a redirect that does not send the browser back to log in or to the access denied page. */
+    static boolean succeeded(HttpResponse<?> response) {
+        int status = response.statusCode();
+        if (status >= 200 && status < 300) {
+            return true;
+        }
+        if (status < 300 || status >= 400) {
+            return false;
+        }
+        String location = response.headers().firstValue("Location").orElse("");
+        return !location.contains("/login") && !location.contains("/access-denied");
+    }
+
+    private HttpResponse<String> keepCsrf(HttpResponse<String> response) {
+        Matcher matcher = CSRF.matcher(response.body());
+        if (matcher.find()) {
+            csrf = matcher.group(1);
+        }
+        return response;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
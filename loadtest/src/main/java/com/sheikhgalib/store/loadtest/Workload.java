@@ -0,0 +1,130 @@
+package com.sheikhgalib.store.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logged-in sessions for the three roles DataInitializer creates, and the
+ * requests each endpoint sends. Reads run as the least privileged role that
+ * may see the page; creates run as the role the form is meant for.
+ */
+final class Workload {
+
+    private static final String[][] USERS = {
+            {"student1", "student123"}, {"teacher1", "teacher123"}, {"admin", "admin123"}};
+
+    private final URI base;
+    private final Session student;
+    private final Session teacher;
+    private final Session admin;
+    private final List<Long> courseIds;
+    private final List<Long> departmentIds;
+    private final AtomicLong sequence = new AtomicLong();
+    // Keeps created emails and codes unique across runs against the same database
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    private Workload(URI base, Session student, Session teacher, Session admin,
+                     List<Long> courseIds, List<Long> departmentIds) {
+        this.base = base;
+        this.student = student;
+        this.teacher = teacher;
+        this.admin = admin;
+        this.courseIds = courseIds;
+        this.departmentIds = departmentIds;
+    }
+
+    static Workload open(URI base, ObjectMapper objectMapper) {
+        Session[] sessions = new Session[USERS.length];
+        for (int i = 0; i < USERS.length; i++) {
+            sessions[i] = new Session(base);
+            sessions[i].open(USERS[i][0], USERS[i][1]);
+        }
+        Session admin = sessions[2];
+        List<Long> courseIds = ids(admin, objectMapper, "/api/v1/courses");
+        List<Long> departmentIds = ids(admin, objectMapper, "/api/v1/departments");
+        if (courseIds.isEmpty() || departmentIds.isEmpty()) {
+            throw new IllegalStateException("The database needs at least one course and one department");
+        }
+        return new Workload(base, sessions[0], sessions[1], admin, courseIds, departmentIds);
+    }
+
+    CompletableFuture<HttpResponse<String>> studentList() {
+        return student.get("/student/list");
+    }
+
+    CompletableFuture<HttpResponse<String>> courseView() {
+        return teacher.get("/course/view/" + pick(courseIds));
+    }
+
+    /** A full login in a new browser, cycling through the three users. */
+    CompletableFuture<HttpResponse<String>> login() {
+        String[] user = USERS[(int) (sequence.getAndIncrement() % USERS.length)];
+        return new Session(base).login(user[0], user[1]);
+    }
+
+    CompletableFuture<HttpResponse<String>> studentCreate() {
+        long n = sequence.incrementAndGet();
+        return teacher.post("/student/create", Map.of(
+                "firstName", "Load",
+                "lastName", "Student" + n,
+                "email", "student-" + runId + "-" + n + "@load.test",
+                "studentId", "L" + runId + n,
+                "department", String.valueOf(pick(departmentIds))));
+    }
+
+    CompletableFuture<HttpResponse<String>> courseCreate() {
+        long n = sequence.incrementAndGet();
+        return teacher.post("/course/create", Map.of(
+                "name", "Load Course " + n,
+                "courseCode", "L" + runId + n,
+                "credits", "3",
+                "capacity", "30",
+                "department", String.valueOf(pick(departmentIds))));
+    }
+
+    CompletableFuture<HttpResponse<String>> teacherCreate() {
+        long n = sequence.incrementAndGet();
+        return admin.post("/teacher/create", Map.of(
+                "firstName", "Load",
+                "lastName", "Teacher" + n,
+                "email", "teacher-" + runId + "-" + n + "@load.test",
+                "employeeId", "L" + runId + n,
+                "department", String.valueOf(pick(departmentIds))));
+    }
+
+    CompletableFuture<HttpResponse<String>> departmentCreate() {
+        long n = sequence.incrementAndGet();
+        return admin.post("/department/create", Map.of(
+                "name", "Load Department " + runId + "-" + n,
+                "description", "Created by the load test"));
+    }
+
+    private static long pick(List<Long> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private static List<Long> ids(Session session, ObjectMapper objectMapper, String path) {
+        HttpResponse<String> response = session.get(path + "?fields=id&size=100").join();
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + path + " returned " + response.statusCode());
+        }
+        try {
+            List<Long> ids = new ArrayList<>();
+            for (JsonNode item : objectMapper.readTree(response.body()).path("items")) {
+                ids.add(item.path("id").asLong());
+            }
+            return ids;
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not read " + path, e);
+        }
+    }
+}
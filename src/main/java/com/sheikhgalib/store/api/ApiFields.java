@@ -0,0 +1,27 @@
+package com.sheikhgalib.store.api;
+
+import com.sheikhgalib.store.repository.SparseFields;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/** Reads the {@code fields} and {@code expand} request parameters. */
+final class ApiFields {
+
+    private ApiFields() {
+    }
+
+    /**
+     * Returns the selection, or {@code null} when the client asked for neither
+     * parameter and gets the resource's default summary.
+     */
+    static SparseFields.Selection select(SparseFields source, String fields, String expand) {
+        if (fields == null && expand == null) {
+            return null;
+        }
+        try {
+            return source.select(fields, expand);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.sheikhgalib.store.api;
+
+import com.sheikhgalib.store.pagination.KeysetCursor;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+
+/**
+ * One page of an API list. {@code next} is the cursor for the following
+ * page, or {@code null} on the last one.
+ */
+public record ApiPage<T>(List<T> items, String next) {
+
+    static <T> ApiPage<T> of(Window<T> window) {
+        return new ApiPage<>(window.getContent(), KeysetCursor.next(window));
+    }
+}
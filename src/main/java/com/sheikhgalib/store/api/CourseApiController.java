@@ -0,0 +1,82 @@
+package com.sheikhgalib.store.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sheikhgalib.store.dto.EnrollmentSummary;
+import com.sheikhgalib.store.repository.SparseFields;
+import com.sheikhgalib.store.service.CourseService;
+import com.sheikhgalib.store.service.EnrollmentService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/v1/courses")
+@PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
+public class CourseApiController {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @GetMapping
+    public ApiPage<?> listCourses(@RequestParam(required = false) String cursor,
+                                  @RequestParam(defaultValue = "id") String sort,
+                                  @RequestParam(defaultValue = "asc") String dir,
+                                  @RequestParam(required = false) Integer size,
+                                  @RequestParam(required = false) String fields,
+                                  @RequestParam(required = false) String expand) {
+        SparseFields.Selection selection = ApiFields.select(CourseService.API_FIELDS, fields, expand);
+        if (selection == null) {
+            return ApiPage.of(courseService.getCourseSummaryPage(cursor, sort, dir, size));
+        }
+        return ApiPage.of(courseService.getCourseFieldsPage(selection, cursor, sort, dir, size));
+    }
+
+    @GetMapping(params = "all=true")
+    public void streamAllCourses(@RequestParam(defaultValue = "id") String sort,
+                                 @RequestParam(defaultValue = "asc") String dir,
+                                 @RequestParam(required = false) String fields,
+                                 @RequestParam(required = false) String expand,
+                                 HttpServletResponse response) throws IOException {
+        SparseFields.Selection selection = ApiFields.select(CourseService.API_FIELDS, fields, expand);
+        if (selection == null) {
+            JsonRows.write(position -> courseService.getCourseSummaryChunk(position, sort, dir), objectMapper, response);
+        } else {
+            JsonRows.write(position -> courseService.getCourseFieldsChunk(selection, position, sort, dir),
+                    objectMapper, response);
+        }
+    }
+
+    @GetMapping("/{id}")
+    public Object getCourse(@PathVariable Long id,
+                            @RequestParam(required = false) String fields,
+                            @RequestParam(required = false) String expand) {
+        SparseFields.Selection selection = ApiFields.select(CourseService.API_FIELDS, fields, expand);
+        Optional<?> course = selection == null
+                ? courseService.getCourseSummary(id)
+                : courseService.getCourseFields(selection, id);
+        return course.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Course not found"));
+    }
+
+    @GetMapping("/{id}/enrollments")
+    public ApiPage<EnrollmentSummary> listCourseEnrollments(@PathVariable Long id,
+                                                            @RequestParam(required = false) String cursor,
+                                                            @RequestParam(required = false) Integer size) {
+        return ApiPage.of(enrollmentService.getCourseEnrollmentPage(id, cursor, size));
+    }
+}
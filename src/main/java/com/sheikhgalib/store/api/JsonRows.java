@@ -0,0 +1,45 @@
+package com.sheikhgalib.store.api;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * Writes a whole list as one {@link ApiPage}-shaped document through a
+ * Jackson generator. Rows are fetched one keyset chunk at a time and the
+ * output is flushed after each chunk, so neither the rows nor the JSON are
+ * ever held in memory whole.
+ */
+final class JsonRows {
+
+    private JsonRows() {
+    }
+
+    static <T> void write(Function<ScrollPosition, Window<T>> fetch, ObjectMapper objectMapper,
+                          HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        JsonGenerator json = objectMapper.getFactory().createGenerator(response.getOutputStream(), JsonEncoding.UTF8);
+        json.writeStartObject();
+        json.writeArrayFieldStart("items");
+        ScrollPosition position = ScrollPosition.keyset();
+        while (position != null) {
+            Window<T> window = fetch.apply(position);
+            for (T row : window) {
+                json.writeObject(row);
+            }
+            json.flush();
+            position = window.hasNext() && !window.isEmpty() ? window.positionAt(window.size() - 1) : null;
+        }
+        json.writeEndArray();
+        json.writeNullField("next");
+        json.writeEndObject();
+        json.flush();
+    }
+}
@@ -0,0 +1,80 @@
+package com.sheikhgalib.store.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sheikhgalib.store.dto.EnrollmentSummary;
+import com.sheikhgalib.store.repository.SparseFields;
+import com.sheikhgalib.store.service.EnrollmentService;
+import com.sheikhgalib.store.service.StudentService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/v1/students")
+public class StudentApiController {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @GetMapping
+    public ApiPage<?> listStudents(@RequestParam(required = false) String cursor,
+                                   @RequestParam(defaultValue = "id") String sort,
+                                   @RequestParam(defaultValue = "asc") String dir,
+                                   @RequestParam(required = false) Integer size,
+                                   @RequestParam(required = false) String fields,
+                                   @RequestParam(required = false) String expand) {
+        SparseFields.Selection selection = ApiFields.select(StudentService.API_FIELDS, fields, expand);
+        if (selection == null) {
+            return ApiPage.of(studentService.getStudentSummaryPage(cursor, sort, dir, size));
+        }
+        return ApiPage.of(studentService.getStudentFieldsPage(selection, cursor, sort, dir, size));
+    }
+
+    @GetMapping(params = "all=true")
+    public void streamAllStudents(@RequestParam(defaultValue = "id") String sort,
+                                  @RequestParam(defaultValue = "asc") String dir,
+                                  @RequestParam(required = false) String fields,
+                                  @RequestParam(required = false) String expand,
+                                  HttpServletResponse response) throws IOException {
+        SparseFields.Selection selection = ApiFields.select(StudentService.API_FIELDS, fields, expand);
+        if (selection == null) {
+            JsonRows.write(position -> studentService.getStudentSummaryChunk(position, sort, dir), objectMapper, response);
+        } else {
+            JsonRows.write(position -> studentService.getStudentFieldsChunk(selection, position, sort, dir),
+                    objectMapper, response);
+        }
+    }
+
+    @GetMapping("/{id}")
+    public Object getStudent(@PathVariable Long id,
+                             @RequestParam(required = false) String fields,
+                             @RequestParam(required = false) String expand) {
+        SparseFields.Selection selection = ApiFields.select(StudentService.API_FIELDS, fields, expand);
+        Optional<?> student = selection == null
+                ? studentService.getStudentSummary(id)
+                : studentService.getStudentFields(selection, id);
+        return student.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Student not found"));
+    }
+
+    @GetMapping("/{id}/enrollments")
+    public ApiPage<EnrollmentSummary> listStudentEnrollments(@PathVariable Long id,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(required = false) Integer size) {
+        return ApiPage.of(enrollmentService.getStudentEnrollmentPage(id, cursor, size));
+    }
+}
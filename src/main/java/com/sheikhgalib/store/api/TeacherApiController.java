@@ -0,0 +1,70 @@
+package com.sheikhgalib.store.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sheikhgalib.store.repository.SparseFields;
+import com.sheikhgalib.store.service.TeacherService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/v1/teachers")
+@PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
+public class TeacherApiController {
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @GetMapping
+    public ApiPage<?> listTeachers(@RequestParam(required = false) String cursor,
+                                   @RequestParam(defaultValue = "id") String sort,
+                                   @RequestParam(defaultValue = "asc") String dir,
+                                   @RequestParam(required = false) Integer size,
+                                   @RequestParam(required = false) String fields,
+                                   @RequestParam(required = false) String expand) {
+        SparseFields.Selection selection = ApiFields.select(TeacherService.API_FIELDS, fields, expand);
+        if (selection == null) {
+            return ApiPage.of(teacherService.getTeacherSummaryPage(cursor, sort, dir, size));
+        }
+        return ApiPage.of(teacherService.getTeacherFieldsPage(selection, cursor, sort, dir, size));
+    }
+
+    @GetMapping(params = "all=true")
+    public void streamAllTeachers(@RequestParam(defaultValue = "id") String sort,
+                                  @RequestParam(defaultValue = "asc") String dir,
+                                  @RequestParam(required = false) String fields,
+                                  @RequestParam(required = false) String expand,
+                                  HttpServletResponse response) throws IOException {
+        SparseFields.Selection selection = ApiFields.select(TeacherService.API_FIELDS, fields, expand);
+        if (selection == null) {
+            JsonRows.write(position -> teacherService.getTeacherSummaryChunk(position, sort, dir), objectMapper, response);
+        } else {
+            JsonRows.write(position -> teacherService.getTeacherFieldsChunk(selection, position, sort, dir),
+                    objectMapper, response);
+        }
+    }
+
+    @GetMapping("/{id}")
+    public Object getTeacher(@PathVariable Long id,
+                             @RequestParam(required = false) String fields,
+                             @RequestParam(required = false) String expand) {
+        SparseFields.Selection selection = ApiFields.select(TeacherService.API_FIELDS, fields, expand);
+        Optional<?> teacher = selection == null
+                ? teacherService.getTeacherSummary(id)
+                : teacherService.getTeacherFields(selection, id);
+        return teacher.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Teacher not found"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.sheikhgalib.store.assets;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Maps logical static paths such as {@code js/typeahead.js} to the
+ * fingerprinted names written by {@link AssetPipeline}. Templates reach it as
+ * {@code #assets}: {@code th:src="@{${#assets.url('js/typeahead.js')}}"}.
+ * <p>
+ * Empty when the app runs without the Maven build, e.g. straight from an
+ * IDE; the plain files are then served from the same URLs.
+ */
+@Component
+public class AssetManifest {
+
+    public static final String FILE_NAME = "manifest.properties";
+    public static final String URL_PREFIX = "/assets/";
+
+    private final Map<String, String> hashedNames;
+
+    public AssetManifest() throws IOException {
+        this(load(new ClassPathResource("assets/" + FILE_NAME)));
+    }
+
+    AssetManifest(Map<String, String> hashedNames) {
+        this.hashedNames = Map.copyOf(hashedNames);
+    }
+
+    /** URL of a static file, relative to the context path. */
+    public String url(String path) {
+        String logical = path.startsWith("/") ? path.substring(1) : path;
+        return URL_PREFIX + hashedNames.getOrDefault(logical, logical);
+    }
+
+    public boolean isEmpty() {
+        return hashedNames.isEmpty();
+    }
+
+    private static Map<String, String> load(Resource resource) throws IOException {
+        if (!resource.exists()) {
+            return Map.of();
+        }
+        Properties properties = PropertiesLoaderUtils.loadProperties(resource);
+        Map<String, String> hashedNames = new HashMap<>();
+        properties.stringPropertyNames().forEach(name -> hashedNames.put(name, properties.getProperty(name)));
+        return hashedNames;
+    }
+}
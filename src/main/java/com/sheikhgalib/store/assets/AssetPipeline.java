@@ -0,0 +1,164 @@
+package com.sheikhgalib.store.assets;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Build-time asset pipeline, run by Maven in {@code process-classes} with the
+ * compiled {@code static/} folder as input. Every file is copied to the
+ * output folder with a content hash in its name ({@code js/typeahead.js}
+ * becomes {@code js/typeahead-<hash>.js}), text files get gzip and brotli
+ * siblings at maximum compression, and the logical-to-hashed names are
+ * written to the {@link AssetManifest}.
+ * <p>
+ * Not used at runtime; brotli4j is a provided dependency. Without its native
+ * library the pipeline still runs and writes gzip only.
+ */
+public final class AssetPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(AssetPipeline.class);
+
+    private static final Set<String> COMPRESSIBLE = Set.of("css", "js", "html", "svg", "json", "txt", "xml", "map");
+    private static final int HASH_LENGTH = 16;
+
+    private final boolean brotli;
+
+    AssetPipeline(boolean brotli) {
+        this.brotli = brotli;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: AssetPipeline <static dir> <assets dir>");
+        }
+        Path target = Path.of(args[1]);
+        Map<String, String> manifest = new AssetPipeline(brotliAvailable()).run(Path.of(args[0]), target);
+        log.info("Fingerprinted {} static assets into {}", manifest.size(), target);
+    }
+
+    /** Processes every file under {@code source}, replacing whatever a previous build left in {@code target}. */
+    Map<String, String> run(Path source, Path target) throws IOException {
+        deleteRecursively(target);
+        Files.createDirectories(target);
+        Map<String, String> manifest = new TreeMap<>();
+        if (Files.isDirectory(source)) {
+            List<Path> files;
+            try (Stream<Path> walk = Files.walk(source)) {
+                files = walk.filter(Files::isRegularFile).sorted().toList();
+            }
+            for (Path file : files) {
+                String logical = source.relativize(file).toString().replace(File.separatorChar, '/');
+                byte[] content = Files.readAllBytes(file);
+                String hashed = fingerprint(logical, content);
+                Path out = target.resolve(hashed);
+                Files.createDirectories(out.getParent());
+                Files.write(out, content);
+                compress(out, content);
+                manifest.put(logical, hashed);
+            }
+        }
+        writeManifest(target.resolve(AssetManifest.FILE_NAME), manifest);
+        return manifest;
+    }
+
+    static String fingerprint(String logical, byte[] content) {
+        String hash = sha256(content).substring(0, HASH_LENGTH);
+        int slash = logical.lastIndexOf('/');
+        int dot = logical.lastIndexOf('.');
+        if (dot <= slash + 1) {
+            return logical + '-' + hash;
+        }
+        return logical.substring(0, dot) + '-' + hash + logical.substring(dot);
+    }
+
+    private void compress(Path file, byte[] content) throws IOException {
+        String name = file.getFileName().toString();
+        if (!COMPRESSIBLE.contains(name.substring(name.lastIndexOf('.') + 1))) {
+            return;
+        }
+        writeIfSmaller(file.resolveSibling(name + ".gz"), gzip(content), content.length);
+        if (brotli) {
+            byte[] compressed = Encoder.compress(content, new Encoder.Parameters().setQuality(11));
+            writeIfSmaller(file.resolveSibling(name + ".br"), compressed, content.length);
+        }
+    }
+
+    private static void writeIfSmaller(Path file, byte[] compressed, int originalLength) throws IOException {
+        if (compressed.length < originalLength) {
+            Files.write(file, compressed);
+        }
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeManifest(Path file, Map<String, String> manifest) throws IOException {
+        // Written by hand rather than with Properties.store, which adds a timestamp
+        StringBuilder text = new StringBuilder("# Generated by AssetPipeline\n");
+        manifest.forEach((logical, hashed) ->
+                text.append(escape(logical)).append('=').append(escape(hashed)).append('\n'));
+        Files.writeString(file, text, StandardCharsets.ISO_8859_1);
+    }
+
+    private static String escape(String path) {
+        return path.replace("\\", "\\\\").replace(" ", "\\ ").replace("=", "\\=").replace(":", "\\:");
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> walk = Files.walk(dir)) {
+            for (Path path : walk.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    static boolean brotliAvailable() {
+        try {
+            Brotli4jLoader.ensureAvailability();
+            return true;
+        } catch (LinkageError | RuntimeException e) {
+            log.warn("Brotli is not available here, writing gzip only: {}", e.toString());
+            return false;
+        }
+    }
+}
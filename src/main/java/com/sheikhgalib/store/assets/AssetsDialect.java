@@ -0,0 +1,43 @@
+package com.sheikhgalib.store.assets;
+
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.IExpressionContext;
+import org.thymeleaf.dialect.AbstractDialect;
+import org.thymeleaf.dialect.IExpressionObjectDialect;
+import org.thymeleaf.expression.IExpressionObjectFactory;
+
+import java.util.Set;
+
+/** Exposes the {@link AssetManifest} to templates as {@code #assets}. */
+@Component
+public class AssetsDialect extends AbstractDialect implements IExpressionObjectDialect {
+
+    private static final String NAME = "assets";
+
+    private final AssetManifest assetManifest;
+
+    public AssetsDialect(AssetManifest assetManifest) {
+        super("Assets");
+        this.assetManifest = assetManifest;
+    }
+
+    @Override
+    public IExpressionObjectFactory getExpressionObjectFactory() {
+        return new IExpressionObjectFactory() {
+            @Override
+            public Set<String> getAllExpressionObjectNames() {
+                return Set.of(NAME);
+            }
+
+            @Override
+            public Object buildObject(IExpressionContext context, String expressionObjectName) {
+                return NAME.equals(expressionObjectName) ? assetManifest : null;
+            }
+
+            @Override
+            public boolean isCacheable(String expressionObjectName) {
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package com.sheikhgalib.store.config;
+
+import com.sheikhgalib.store.datasource.ReadReplicaRoutingDataSource;
+import com.sheikhgalib.store.datasource.ReplicaDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routes read-only transactions to the configured read replicas and all
+ * other work to the primary {@code spring.datasource}. The pools sit behind
+ * the router rather than being beans, so their metrics are wired here.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class DataSourceConfig {
+
+    @Bean
+    public ReadReplicaRoutingDataSource routingDataSource(DataSourceProperties dataSourceProperties,
+                                                          ReplicaDataSourceProperties replicaProperties,
+                                                          Environment environment,
+                                                          ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName("primary");
+        }
+        meterRegistry.ifAvailable(primary::setMetricRegistry);
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.getReplicas().size(); i++) {
+            ReplicaDataSourceProperties.Replica replica = replicaProperties.getReplicas().get(i);
+            HikariDataSource replicaDataSource = new HikariDataSource();
+            replicaDataSource.setPoolName("replica-" + i);
+            replicaDataSource.setJdbcUrl(replica.getUrl());
+            replicaDataSource.setUsername(replica.getUsername());
+            replicaDataSource.setPassword(replica.getPassword());
+            replicaDataSource.setReadOnly(true);
+            // Let the app start while a replica is down; it is retried on demand
+            replicaDataSource.setInitializationFailTimeout(-1);
+            meterRegistry.ifAvailable(replicaDataSource::setMetricRegistry);
+            replicas.add(replicaDataSource);
+        }
+        return new ReadReplicaRoutingDataSource(primary, replicas, replicaProperties, Clock.systemUTC());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,12 @@
+package com.sheikhgalib.store.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs such as the waitlist promoter.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
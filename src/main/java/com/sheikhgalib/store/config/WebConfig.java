@@ -0,0 +1,43 @@
+package com.sheikhgalib.store.config;
+
+import com.sheikhgalib.store.assets.AssetManifest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the fingerprinted static files under {@code /assets/**}. A name
+ * changes whenever its content does, so responses are cached for a year as
+ * immutable, and the precompressed .br/.gz siblings are chosen by
+ * Accept-Encoding. {@link SecurityConfig} keeps the path out of the security
+ * filter chain.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private AssetManifest assetManifest;
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        String pattern = AssetManifest.URL_PREFIX + "**";
+        if (assetManifest.isEmpty()) {
+            // Not built by Maven: serve the plain files and have browsers revalidate them
+            registry.addResourceHandler(pattern)
+                    .addResourceLocations("classpath:/static/")
+                    .setCacheControl(CacheControl.noCache());
+            return;
+        }
+        registry.addResourceHandler(pattern)
+                .addResourceLocations("classpath:/assets/")
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .setUseLastModified(false)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
+    }
+}
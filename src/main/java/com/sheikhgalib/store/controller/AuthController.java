@@ -2,6 +2,7 @@ package com.sheikhgalib.store.controller;
 
 import com.sheikhgalib.store.entity.User;
 import com.sheikhgalib.store.repository.UserRepository;
+import com.sheikhgalib.store.security.PasswordHashingRejectedException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Controller;
@@ -26,7 +27,9 @@ public class AuthController {
     public String login(@RequestParam(required = false) String error,
                        @RequestParam(required = false) String logout,
                        Model model) {
-        if (error != null) {
+        if ("busy".equals(error)) {
+            model.addAttribute("error", "The server is busy, please try again in a moment");
+        } else if (error != null) {
             model.addAttribute("error", "Invalid username or password");
         }
         if (logout != null) {
@@ -56,10 +59,18 @@ public class AuthController {
             return "register";
         }
 
+        String encodedPassword;
+        try {
+            encodedPassword = passwordEncoder.encode(password);
+        } catch (PasswordHashingRejectedException e) {
+            model.addAttribute("error", "The server is busy, please try again in a moment");
+            return "register";
+        }
+
         User user = new User();
         user.setUsername(username);
         user.setEmail(email);
-        user.setPassword(passwordEncoder.encode(password));
+        user.setPassword(encodedPassword);
         user.setRoles(Set.of("ROLE_" + role.toUpperCase()));
         user.setEnabled(true);
 
@@ -0,0 +1,69 @@
+package com.sheikhgalib.store.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sheikhgalib.store.security.UserDetailsCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/admin/cache")
+@PreAuthorize("hasRole('ADMIN')")
+public class CacheStatisticsController {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @GetMapping("/stats")
+    public Map<String, Object> statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        Arrays.stream(statistics.getSecondLevelCacheRegionNames()).sorted().forEach(name -> {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(name);
+            if (region != null) {
+                regions.put(name, regionSummary(region.getHitCount(), region.getMissCount(), region.getPutCount()));
+            }
+        });
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        result.put("secondLevelCache", regionSummary(statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(), statistics.getSecondLevelCachePutCount()));
+        result.put("naturalIdCache", regionSummary(statistics.getNaturalIdCacheHitCount(),
+                statistics.getNaturalIdCacheMissCount(), statistics.getNaturalIdCachePutCount()));
+        result.put("queryCache", regionSummary(statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount()));
+        result.put("regions", regions);
+
+        CacheStats userStats = userDetailsCache.stats();
+        Map<String, Object> userDetails = regionSummary(userStats.hitCount(), userStats.missCount(), userStats.loadSuccessCount());
+        userDetails.put("evictions", userStats.evictionCount());
+        userDetails.put("size", userDetailsCache.size());
+        result.put("userDetailsCache", userDetails);
+        result.put("statementsPrepared", statistics.getPrepareStatementCount());
+        return result;
+    }
+
+    private static Map<String, Object> regionSummary(long hits, long misses, long puts) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("hits", hits);
+        summary.put("misses", misses);
+        summary.put("puts", puts);
+        summary.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        return summary;
+    }
+}
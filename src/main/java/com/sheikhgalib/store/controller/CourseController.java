@@ -1,14 +1,22 @@
 package com.sheikhgalib.store.controller;
 
 import com.sheikhgalib.store.entity.Course;
+import com.sheikhgalib.store.pagination.KeysetCursor;
 import com.sheikhgalib.store.service.CourseService;
 import com.sheikhgalib.store.service.DepartmentService;
-import com.sheikhgalib.store.service.TeacherService;
+import com.sheikhgalib.store.service.EnrollmentService;
+import com.sheikhgalib.store.service.WaitlistService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 @Controller
 @RequestMapping("/course")
@@ -22,19 +30,46 @@ public class CourseController {
     private DepartmentService departmentService;
 
     @Autowired
-    private TeacherService teacherService;
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private WaitlistService waitlistService;
 
     @GetMapping("/list")
-    public String listCourses(Model model) {
-        model.addAttribute("courses", courseService.getAllCourses());
+    public String listCourses(@RequestParam(required = false) String cursor,
+                              @RequestParam(defaultValue = "id") String sort,
+                              @RequestParam(defaultValue = "asc") String dir,
+                              @RequestParam(required = false) Integer size,
+                              @RequestParam(defaultValue = "false") boolean all,
+                              Model model, HttpServletResponse response) {
+        String sortProperty = CourseService.SORTABLE_PROPERTIES.contains(sort) ? sort : "id";
+        String direction = "desc".equalsIgnoreCase(dir) ? "desc" : "asc";
+        if (all) {
+            model.addAttribute("courses", new StreamingRows<>(
+                    position -> courseService.getCourseChunk(position, sortProperty, direction), response));
+            model.addAttribute("nextCursor", null);
+        } else {
+            Window<Course> page = courseService.getCoursePage(cursor, sortProperty, direction, size);
+            model.addAttribute("courses", page.getContent());
+            model.addAttribute("nextCursor", KeysetCursor.next(page));
+        }
+        model.addAttribute("all", all);
+        model.addAttribute("sort", sortProperty);
+        model.addAttribute("dir", direction);
+        model.addAttribute("size", KeysetCursor.size(size));
         return "course/list";
     }
 
     @GetMapping("/view/{id}")
-    public String viewCourse(@PathVariable Long id, Model model) {
+    public String viewCourse(@PathVariable Long id, Model model, ServletWebRequest request) {
+        if (ViewETags.notModified(request, courseService.getViewVersion(id).orElse(null))) {
+            return null;
+        }
         Course course = courseService.getCourseById(id)
                 .orElseThrow(() -> new RuntimeException("Course not found"));
         model.addAttribute("course", course);
+        model.addAttribute("enrolledCount", enrollmentService.countEnrollments(id));
+        model.addAttribute("waitlistSize", waitlistService.getWaitlistSize(id));
         return "course/view";
     }
 
@@ -42,7 +77,6 @@ public class CourseController {
     public String createCourseForm(Model model) {
         model.addAttribute("course", new Course());
         model.addAttribute("departments", departmentService.getAllDepartments());
-        model.addAttribute("teachers", teacherService.getAllTeachers());
         return "course/form";
     }
 
@@ -58,7 +92,6 @@ public class CourseController {
                 .orElseThrow(() -> new RuntimeException("Course not found"));
         model.addAttribute("course", course);
         model.addAttribute("departments", departmentService.getAllDepartments());
-        model.addAttribute("teachers", teacherService.getAllTeachers());
         return "course/form";
     }
 
@@ -74,4 +107,49 @@ public class CourseController {
         courseService.deleteCourse(id);
         return "redirect:/course/list";
     }
+
+    @GetMapping("/{id}/enrollments/bulk")
+    public String bulkEnrollForm(@PathVariable Long id, Model model) {
+        Course course = courseService.getCourseById(id)
+                .orElseThrow(() -> new RuntimeException("Course not found"));
+        model.addAttribute("course", course);
+        model.addAttribute("departments", departmentService.getAllDepartments());
+        return "course/bulk-enroll";
+    }
+
+    @PostMapping("/{id}/enrollments/bulk")
+    public String bulkEnroll(@PathVariable Long id,
+                             @RequestParam(required = false) String studentIds,
+                             @RequestParam(required = false) Long departmentId,
+                             Model model) {
+        Course course = courseService.getCourseById(id)
+                .orElseThrow(() -> new RuntimeException("Course not found"));
+        model.addAttribute("course", course);
+        model.addAttribute("departments", departmentService.getAllDepartments());
+        model.addAttribute("studentIds", studentIds);
+        model.addAttribute("departmentId", departmentId);
+
+        if (departmentId != null) {
+            model.addAttribute("result", enrollmentService.enrollDepartment(id, departmentId));
+            return "course/bulk-enroll";
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        for (String token : studentIds == null ? new String[0] : studentIds.trim().split("[\\s,;]+")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            try {
+                ids.add(Long.valueOf(token));
+            } catch (NumberFormatException e) {
+                model.addAttribute("error", "Not a student ID: " + token);
+                return "course/bulk-enroll";
+            }
+        }
+        if (ids.isEmpty()) {
+            model.addAttribute("error", "Enter student IDs or choose a department");
+            return "course/bulk-enroll";
+        }
+        model.addAttribute("result", enrollmentService.enrollStudents(id, ids));
+        return "course/bulk-enroll";
+    }
 }
@@ -7,6 +7,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @Controller
 @RequestMapping("/department")
@@ -23,7 +24,10 @@ public class DepartmentController {
     }
 
     @GetMapping("/view/{id}")
-    public String viewDepartment(@PathVariable Long id, Model model) {
+    public String viewDepartment(@PathVariable Long id, Model model, ServletWebRequest request) {
+        if (ViewETags.notModified(request, departmentService.getViewVersion(id).orElse(null))) {
+            return null;
+        }
         Department department = departmentService.getDepartmentById(id)
                 .orElseThrow(() -> new RuntimeException("Department not found"));
         model.addAttribute("department", department);
@@ -0,0 +1,65 @@
+package com.sheikhgalib.store.controller;
+
+import com.sheikhgalib.store.service.ExportFormat;
+import com.sheikhgalib.store.service.ExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@Controller
+@RequestMapping("/export")
+@PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
+public class ExportController {
+
+    @Autowired
+    private ExportService exportService;
+
+    @GetMapping("/students")
+    public void exportStudents(@RequestParam(defaultValue = "csv") String format,
+                               HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = formatOf(format);
+        prepare(response, "students", exportFormat);
+        exportService.exportStudents(exportFormat, response.getOutputStream());
+    }
+
+    @GetMapping("/teachers")
+    public void exportTeachers(@RequestParam(defaultValue = "csv") String format,
+                               HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = formatOf(format);
+        prepare(response, "teachers", exportFormat);
+        exportService.exportTeachers(exportFormat, response.getOutputStream());
+    }
+
+    @GetMapping("/courses")
+    public void exportCourses(@RequestParam(defaultValue = "csv") String format,
+                              HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = formatOf(format);
+        prepare(response, "courses", exportFormat);
+        exportService.exportCourses(exportFormat, response.getOutputStream());
+    }
+
+    private ExportFormat formatOf(String format) {
+        try {
+            return ExportFormat.fromParameter(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private void prepare(HttpServletResponse response, String name, ExportFormat format) {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + name + "." + format.getExtension() + "\"");
+    }
+}
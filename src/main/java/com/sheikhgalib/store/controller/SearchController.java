@@ -0,0 +1,39 @@
+package com.sheikhgalib.store.controller;
+
+import com.sheikhgalib.store.pagination.KeysetCursor;
+import com.sheikhgalib.store.search.SearchIndex;
+import com.sheikhgalib.store.search.SearchResult;
+import com.sheikhgalib.store.search.SearchType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.Set;
+
+@Controller
+public class SearchController {
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @GetMapping("/search")
+    public String search(@RequestParam(required = false) String q,
+                         @RequestParam(required = false) SearchType type,
+                         @RequestParam(required = false) Integer size,
+                         Authentication authentication,
+                         Model model) {
+        Set<SearchType> types = SearchType.visibleTo(authentication);
+        if (type != null) {
+            types.retainAll(Set.of(type));
+        }
+        SearchResult result = searchIndex.search(q, types, KeysetCursor.size(size));
+        model.addAttribute("q", q);
+        model.addAttribute("type", type);
+        model.addAttribute("types", SearchType.visibleTo(authentication));
+        model.addAttribute("result", result);
+        return "search/results";
+    }
+}
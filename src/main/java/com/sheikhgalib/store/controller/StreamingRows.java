@@ -0,0 +1,90 @@
+package com.sheikhgalib.store.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Rows of a whole list page, fetched one keyset chunk at a time while
+ * Thymeleaf writes the table. The response is flushed before every fetch, so
+ * the page shell and each finished chunk reach the browser while the next
+ * query runs, and only one chunk is held at a time.
+ * <p>
+ * The open-in-view session would still keep every row fetched so far, so the
+ * services' {@code get*Chunk} methods clear the persistence context before
+ * loading the next chunk; the previous one has already been written.
+ * <p>
+ * The first flush commits the response: a failure part-way through cuts the
+ * page short instead of turning into an error page.
+ */
+final class StreamingRows<T> implements Iterable<T> {
+
+    private final Function<ScrollPosition, Window<T>> fetch;
+    private final HttpServletResponse response;
+
+    private Iterator<T> chunk = Collections.emptyIterator();
+    private ScrollPosition next = ScrollPosition.keyset();
+    private long count;
+    private boolean iterated;
+
+    StreamingRows(Function<ScrollPosition, Window<T>> fetch, HttpServletResponse response) {
+        this.fetch = fetch;
+        this.response = response;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("Streaming rows can only be iterated once");
+        }
+        iterated = true;
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return advance();
+            }
+
+            @Override
+            public T next() {
+                if (!advance()) {
+                    throw new NoSuchElementException();
+                }
+                count++;
+                return chunk.next();
+            }
+        };
+    }
+
+    /** Whether there are no rows at all; templates check this after the loop, when it costs nothing. */
+    public boolean isEmpty() {
+        return count == 0 && !advance();
+    }
+
+    private boolean advance() {
+        while (!chunk.hasNext()) {
+            if (next == null) {
+                return false;
+            }
+            flush();
+            Window<T> window = fetch.apply(next);
+            chunk = window.iterator();
+            next = window.hasNext() && !window.isEmpty() ? window.positionAt(window.size() - 1) : null;
+        }
+        return true;
+    }
+
+    private void flush() {
+        try {
+            response.flushBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,13 +1,29 @@
 package com.sheikhgalib.store.controller;
 
+import com.sheikhgalib.store.dto.EnrollmentOutcome;
 import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.entity.WaitlistEntry;
+import com.sheikhgalib.store.pagination.KeysetCursor;
 import com.sheikhgalib.store.service.DepartmentService;
+import com.sheikhgalib.store.service.EnrollmentService;
+import com.sheikhgalib.store.service.StudentImportService;
 import com.sheikhgalib.store.service.StudentService;
+import com.sheikhgalib.store.service.WaitlistService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @Controller
 @RequestMapping("/student")
@@ -19,20 +35,79 @@ public class StudentController {
     @Autowired
     private DepartmentService departmentService;
 
+    @Autowired
+    private StudentImportService studentImportService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private WaitlistService waitlistService;
+
     @GetMapping("/list")
-    public String listStudents(Model model) {
-        model.addAttribute("students", studentService.getAllStudents());
+    public String listStudents(@RequestParam(required = false) String cursor,
+                              @RequestParam(defaultValue = "id") String sort,
+                              @RequestParam(defaultValue = "asc") String dir,
+                              @RequestParam(required = false) Integer size,
+                              @RequestParam(defaultValue = "false") boolean all,
+                              Model model, HttpServletResponse response) {
+        String sortProperty = StudentService.SORTABLE_PROPERTIES.contains(sort) ? sort : "id";
+        String direction = "desc".equalsIgnoreCase(dir) ? "desc" : "asc";
+        if (all) {
+            model.addAttribute("students", new StreamingRows<>(
+                    position -> studentService.getStudentChunk(position, sortProperty, direction), response));
+            model.addAttribute("nextCursor", null);
+        } else {
+            Window<Student> page = studentService.getStudentPage(cursor, sortProperty, direction, size);
+            model.addAttribute("students", page.getContent());
+            model.addAttribute("nextCursor", KeysetCursor.next(page));
+        }
+        model.addAttribute("all", all);
+        model.addAttribute("sort", sortProperty);
+        model.addAttribute("dir", direction);
+        model.addAttribute("size", KeysetCursor.size(size));
         return "student/list";
     }
 
     @GetMapping("/view/{id}")
-    public String viewStudent(@PathVariable Long id, Model model) {
+    public String viewStudent(@PathVariable Long id, Model model, ServletWebRequest request) {
+        if (ViewETags.notModified(request, studentService.getViewVersion(id).orElse(null))) {
+            return null;
+        }
         Student student = studentService.getStudentById(id)
                 .orElseThrow(() -> new RuntimeException("Student not found"));
         model.addAttribute("student", student);
+        model.addAttribute("enrollments", enrollmentService.getEnrollmentsForStudent(id));
+        List<WaitlistEntry> waitlist = waitlistService.getWaitlistForStudent(id);
+        model.addAttribute("waitlist", waitlist);
+        model.addAttribute("waitlistPositions", waitlistService.getPositions(waitlist));
         return "student/view";
     }
 
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
+    @PostMapping("/{id}/enrollments")
+    public String enroll(@PathVariable Long id, @RequestParam(required = false) Long courseId) {
+        if (courseId != null && enrollmentService.enroll(id, courseId) == EnrollmentOutcome.COURSE_FULL) {
+            waitlistService.join(id, courseId);
+            return "redirect:/student/view/" + id + "?waitlisted";
+        }
+        return "redirect:/student/view/" + id;
+    }
+
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
+    @PostMapping("/{id}/enrollments/{courseId}/delete")
+    public String unenroll(@PathVariable Long id, @PathVariable Long courseId) {
+        enrollmentService.unenroll(id, courseId);
+        return "redirect:/student/view/" + id;
+    }
+
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
+    @PostMapping("/{id}/waitlist/{courseId}/delete")
+    public String leaveWaitlist(@PathVariable Long id, @PathVariable Long courseId) {
+        waitlistService.leave(id, courseId);
+        return "redirect:/student/view/" + id;
+    }
+
     @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
     @GetMapping("/create")
     public String createStudentForm(Model model) {
@@ -48,6 +123,21 @@ public class StudentController {
         return "redirect:/student/list";
     }
 
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
+    @GetMapping("/import")
+    public String importStudentsForm() {
+        return "student/import";
+    }
+
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
+    @PostMapping("/import")
+    public String importStudents(@RequestParam("file") MultipartFile file, Model model) throws IOException {
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            model.addAttribute("result", studentImportService.importStudents(reader));
+        }
+        return "student/import";
+    }
+
     @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
     @GetMapping("/edit/{id}")
     public String editStudentForm(@PathVariable Long id, Model model) {
@@ -1,13 +1,17 @@
 package com.sheikhgalib.store.controller;
 
 import com.sheikhgalib.store.entity.Teacher;
+import com.sheikhgalib.store.pagination.KeysetCursor;
 import com.sheikhgalib.store.service.DepartmentService;
 import com.sheikhgalib.store.service.TeacherService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @Controller
 @RequestMapping("/teacher")
@@ -20,13 +24,35 @@ public class TeacherController {
     private DepartmentService departmentService;
 
     @GetMapping("/list")
-    public String listTeachers(Model model) {
-        model.addAttribute("teachers", teacherService.getAllTeachers());
+    public String listTeachers(@RequestParam(required = false) String cursor,
+                              @RequestParam(defaultValue = "id") String sort,
+                              @RequestParam(defaultValue = "asc") String dir,
+                              @RequestParam(required = false) Integer size,
+                              @RequestParam(defaultValue = "false") boolean all,
+                              Model model, HttpServletResponse response) {
+        String sortProperty = TeacherService.SORTABLE_PROPERTIES.contains(sort) ? sort : "id";
+        String direction = "desc".equalsIgnoreCase(dir) ? "desc" : "asc";
+        if (all) {
+            model.addAttribute("teachers", new StreamingRows<>(
+                    position -> teacherService.getTeacherChunk(position, sortProperty, direction), response));
+            model.addAttribute("nextCursor", null);
+        } else {
+            Window<Teacher> page = teacherService.getTeacherPage(cursor, sortProperty, direction, size);
+            model.addAttribute("teachers", page.getContent());
+            model.addAttribute("nextCursor", KeysetCursor.next(page));
+        }
+        model.addAttribute("all", all);
+        model.addAttribute("sort", sortProperty);
+        model.addAttribute("dir", direction);
+        model.addAttribute("size", KeysetCursor.size(size));
         return "teacher/list";
     }
 
     @GetMapping("/view/{id}")
-    public String viewTeacher(@PathVariable Long id, Model model) {
+    public String viewTeacher(@PathVariable Long id, Model model, ServletWebRequest request) {
+        if (ViewETags.notModified(request, teacherService.getViewVersion(id).orElse(null))) {
+            return null;
+        }
         Teacher teacher = teacherService.getTeacherById(id)
                 .orElseThrow(() -> new RuntimeException("Teacher not found"));
         model.addAttribute("teacher", teacher);
@@ -0,0 +1,36 @@
+package com.sheikhgalib.store.controller;
+
+import com.sheikhgalib.store.search.PrefixIndex;
+import com.sheikhgalib.store.search.SearchType;
+import com.sheikhgalib.store.search.Suggestion;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+public class TypeaheadController {
+
+    static final int DEFAULT_LIMIT = 10;
+    static final int MAX_LIMIT = 20;
+
+    @Autowired
+    private PrefixIndex prefixIndex;
+
+    @GetMapping("/typeahead")
+    public List<Suggestion> suggest(@RequestParam String q,
+                                    @RequestParam(required = false) SearchType type,
+                                    @RequestParam(required = false) Integer limit,
+                                    Authentication authentication) {
+        Set<SearchType> types = SearchType.visibleTo(authentication);
+        if (type != null) {
+            types.retainAll(Set.of(type));
+        }
+        int size = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        return prefixIndex.suggest(q, types, size);
+    }
+}
@@ -0,0 +1,64 @@
+package com.sheikhgalib.store.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.stream.Collectors;
+
+/**
+ * Strong ETags for the detail pages. The tag hashes the record's version
+ * fingerprint with the caller's roles, which decide what the page offers,
+ * and the session id, since the forms on a page carry that session's CSRF
+ * token. Controllers check it before loading anything, so a revalidation
+ * that still matches costs one version query and no rendering.
+ */
+final class ViewETags {
+
+    /** Let the browser keep the page but revalidate it on every use. */
+    static final String CACHE_CONTROL = "private, no-cache";
+
+    private ViewETags() {
+    }
+
+    /**
+     * Sets the ETag and answers 304 if the request's If-None-Match matches.
+     * A {@code null} version means the record is gone; the caller's normal
+     * path then reports that.
+     */
+    static boolean notModified(ServletWebRequest request, String version) {
+        if (version == null) {
+            return false;
+        }
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        return request.checkNotModified(etag(version, request));
+    }
+
+    static String etag(String version, ServletWebRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String roles = authentication == null ? "" : authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .collect(Collectors.joining(","));
+        HttpSession session = request.getRequest().getSession(false);
+        String sessionId = session == null ? "" : session.getId();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((version + '|' + roles + '|' + sessionId).getBytes(StandardCharsets.UTF_8));
+            return '"' + HexFormat.of().formatHex(digest, 0, 16) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.sheikhgalib.store.csv;
+
+import java.io.IOException;
+
+/**
+ * Input that is not valid CSV, as opposed to a failure reading it.
+ */
+public class CsvFormatException extends IOException {
+
+    private final long line;
+
+    public CsvFormatException(long line, String message) {
+        super(message);
+        this.line = line;
+    }
+
+    /** Line (1-based) on which the malformed record started. */
+    public long getLine() {
+        return line;
+    }
+}
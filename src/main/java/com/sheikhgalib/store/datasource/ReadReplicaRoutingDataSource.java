@@ -0,0 +1,161 @@
+package com.sheikhgalib.store.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out replica connections to read-only transactions and primary
+ * connections to everything else. Replicas are used round-robin; one that
+ * fails to connect or lags beyond {@code maxLag} is skipped for
+ * {@code retryInterval}, and when no replica is usable reads fall back to the
+ * primary.
+ * <p>
+ * The read-only flag is only known once the transaction has started, so this
+ * must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Duration lagCheckInterval;
+    private final Duration retryInterval;
+    private final Clock clock;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas,
+                                        ReplicaDataSourceProperties properties, Clock clock) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.lagQuery = properties.getReplicaLagQuery();
+        this.maxLag = properties.getReplicaMaxLag();
+        this.lagCheckInterval = properties.getReplicaLagCheckInterval();
+        this.retryInterval = properties.getReplicaRetryInterval();
+        this.clock = clock;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            Connection connection = replicaConnection();
+            if (connection != null) {
+                return connection;
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    public int getAvailableReplicaCount() {
+        Instant now = clock.instant();
+        return (int) replicas.stream().filter(replica -> replica.isAvailable(now)).count();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection replicaConnection() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            Instant now = clock.instant();
+            if (!replica.isAvailable(now)) {
+                continue;
+            }
+            Connection connection = null;
+            try {
+                connection = replica.dataSource.getConnection();
+                if (replica.isLagCheckDue(now)) {
+                    Duration lag = lag(connection);
+                    replica.lagCheckedAt = now;
+                    if (lag.compareTo(maxLag) > 0) {
+                        log.warn("Replica {} is {} behind the primary, skipping for {}", start + i, lag, retryInterval);
+                        replica.unavailableUntil = now.plus(retryInterval);
+                        connection.close();
+                        continue;
+                    }
+                }
+                return connection;
+            } catch (SQLException e) {
+                log.warn("Replica {} is unavailable, skipping for {}: {}", start + i, retryInterval, e.getMessage());
+                replica.unavailableUntil = now.plus(retryInterval);
+                closeQuietly(connection);
+            }
+        }
+        return null;
+    }
+
+    private Duration lag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                return Duration.ZERO;
+            }
+            double seconds = resultSet.getDouble(1);
+            return resultSet.wasNull() ? Duration.ZERO : Duration.ofMillis((long) (seconds * 1000));
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+                // already failed; the original error is logged
+            }
+        }
+    }
+
+    private final class Replica {
+
+        private final DataSource dataSource;
+        private volatile Instant unavailableUntil = Instant.MIN;
+        private volatile Instant lagCheckedAt = Instant.MIN;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private boolean isAvailable(Instant now) {
+            return !now.isBefore(unavailableUntil);
+        }
+
+        private boolean isLagCheckDue(Instant now) {
+            return lagQuery != null && !lagQuery.isBlank()
+                    && !now.isBefore(lagCheckedAt.plus(lagCheckInterval));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.sheikhgalib.store.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica settings bound from {@code store.datasource.*}. With no
+ * replicas configured every connection comes from the primary.
+ */
+@ConfigurationProperties("store.datasource")
+public class ReplicaDataSourceProperties {
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    /** Query returning the replica's lag in seconds; empty disables the lag check. */
+    private String replicaLagQuery;
+
+    private Duration replicaMaxLag = Duration.ofSeconds(10);
+
+    private Duration replicaLagCheckInterval = Duration.ofSeconds(5);
+
+    /** How long a failed or lagging replica is skipped before it is tried again. */
+    private Duration replicaRetryInterval = Duration.ofSeconds(30);
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(List<Replica> replicas) {
+        this.replicas = replicas;
+    }
+
+    public String getReplicaLagQuery() {
+        return replicaLagQuery;
+    }
+
+    public void setReplicaLagQuery(String replicaLagQuery) {
+        this.replicaLagQuery = replicaLagQuery;
+    }
+
+    public Duration getReplicaMaxLag() {
+        return replicaMaxLag;
+    }
+
+    public void setReplicaMaxLag(Duration replicaMaxLag) {
+        this.replicaMaxLag = replicaMaxLag;
+    }
+
+    public Duration getReplicaLagCheckInterval() {
+        return replicaLagCheckInterval;
+    }
+
+    public void setReplicaLagCheckInterval(Duration replicaLagCheckInterval) {
+        this.replicaLagCheckInterval = replicaLagCheckInterval;
+    }
+
+    public Duration getReplicaRetryInterval() {
+        return replicaRetryInterval;
+    }
+
+    public void setReplicaRetryInterval(Duration replicaRetryInterval) {
+        this.replicaRetryInterval = replicaRetryInterval;
+    }
+
+    public static class Replica {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.sheikhgalib.store.dto;
+
+/**
+ * Outcome of a bulk enrollment. {@code requested} counts distinct student ids
+ * (or the students in the department); every one of them ends up enrolled,
+ * already enrolled, without a seat because the course filled up, or not found.
+ */
+public record BulkEnrollmentResult(long requested, long enrolled, long alreadyEnrolled, long noSeat,
+                                   long notFound, long tookMillis) {
+}
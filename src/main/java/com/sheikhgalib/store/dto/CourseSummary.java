@@ -0,0 +1,16 @@
+package com.sheikhgalib.store.dto;
+
+/** Course as served by the JSON API, with its department and teacher by id and name. */
+public interface CourseSummary {
+    Long getId();
+    String getCourseCode();
+    String getName();
+    String getDescription();
+    Integer getCredits();
+    Integer getCapacity();
+    Long getDepartmentId();
+    String getDepartmentName();
+    Long getTeacherId();
+    String getTeacherFirstName();
+    String getTeacherLastName();
+}
@@ -0,0 +1,8 @@
+package com.sheikhgalib.store.dto;
+
+/** Department as served by the JSON API, without its student, teacher and course collections. */
+public interface DepartmentSummary {
+    Long getId();
+    String getName();
+    String getDescription();
+}
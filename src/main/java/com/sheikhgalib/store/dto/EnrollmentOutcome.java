@@ -0,0 +1,9 @@
+package com.sheikhgalib.store.dto;
+
+public enum EnrollmentOutcome {
+    ENROLLED,
+    ALREADY_ENROLLED,
+    COURSE_FULL,
+    WAITLISTED,
+    ALREADY_WAITLISTED
+}
@@ -0,0 +1,17 @@
+package com.sheikhgalib.store.dto;
+
+import com.sheikhgalib.store.entity.EnrollmentStatus;
+
+import java.time.LocalDateTime;
+
+/** Enrollment as served by the JSON API, naming both the student and the course. */
+public interface EnrollmentSummary {
+    Long getStudentId();
+    String getStudentFirstName();
+    String getStudentLastName();
+    Long getCourseId();
+    String getCourseCode();
+    String getCourseName();
+    LocalDateTime getEnrolledAt();
+    EnrollmentStatus getStatus();
+}
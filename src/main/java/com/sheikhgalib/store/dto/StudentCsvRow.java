@@ -0,0 +1,65 @@
+package com.sheikhgalib.store.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * One data row of a student CSV file, as read before it becomes a Student.
+ */
+public record StudentCsvRow(
+        long line,
+        @NotBlank @Size(max = 255) String firstName,
+        @NotBlank @Size(max = 255) String lastName,
+        @NotBlank @Email @Size(max = 255) String email,
+        @Size(max = 255) String studentId,
+        @Size(max = 255) String phone,
+        String department) {
+
+    public static final List<String> HEADER =
+            List.of("firstName", "lastName", "email", "studentId", "phone", "department");
+
+    /**
+     * Column positions resolved from a header row; -1 marks an absent column.
+     */
+    public record Columns(int firstName, int lastName, int email, int studentId, int phone, int department) {
+
+        public static Columns fromHeader(List<String> header) {
+            List<String> names = header.stream().map(Columns::normalize).toList();
+            int[] index = new int[HEADER.size()];
+            for (int i = 0; i < HEADER.size(); i++) {
+                index[i] = names.indexOf(normalize(HEADER.get(i)));
+            }
+            Columns columns = new Columns(index[0], index[1], index[2], index[3], index[4], index[5]);
+            if (columns.firstName < 0 || columns.lastName < 0 || columns.email < 0) {
+                throw new IllegalArgumentException("Header must contain firstName, lastName and email columns");
+            }
+            return columns;
+        }
+
+        public StudentCsvRow toRow(long line, List<String> record) {
+            return new StudentCsvRow(line,
+                    value(record, firstName),
+                    value(record, lastName),
+                    value(record, email),
+                    value(record, studentId),
+                    value(record, phone),
+                    value(record, department));
+        }
+
+        private static String value(List<String> record, int index) {
+            if (index < 0 || index >= record.size()) {
+                return null;
+            }
+            String value = record.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private static String normalize(String name) {
+            return name.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT);
+        }
+    }
+}
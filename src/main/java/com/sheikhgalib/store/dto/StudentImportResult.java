@@ -0,0 +1,60 @@
+package com.sheikhgalib.store.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a bulk student import. Only the first {@code maxReportedErrors}
+ * row errors are kept so the report stays bounded for very large files.
+ */
+public class StudentImportResult {
+
+    public record RowError(long line, String message) {
+    }
+
+    private final int maxReportedErrors;
+    private final List<RowError> errors = new ArrayList<>();
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+
+    public StudentImportResult(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public void rowsRead(int count) {
+        totalRows += count;
+    }
+
+    public void imported(int count) {
+        importedRows += count;
+    }
+
+    public void reject(long line, String message) {
+        failedRows++;
+        if (errors.size() < maxReportedErrors) {
+            errors.add(new RowError(line, message));
+        }
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public long getImportedRows() {
+        return importedRows;
+    }
+
+    public long getFailedRows() {
+        return failedRows;
+    }
+
+    public List<RowError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    public boolean isErrorsTruncated() {
+        return failedRows > errors.size();
+    }
+}
@@ -0,0 +1,13 @@
+package com.sheikhgalib.store.dto;
+
+/** Student as served by the JSON API: flat columns, the department by id and name. */
+public interface StudentSummary {
+    Long getId();
+    String getFirstName();
+    String getLastName();
+    String getEmail();
+    String getStudentId();
+    String getPhone();
+    Long getDepartmentId();
+    String getDepartmentName();
+}
@@ -0,0 +1,13 @@
+package com.sheikhgalib.store.dto;
+
+/** Teacher as served by the JSON API: flat columns, the department by id and name. */
+public interface TeacherSummary {
+    Long getId();
+    String getFirstName();
+    String getLastName();
+    String getEmail();
+    String getEmployeeId();
+    String getPhone();
+    Long getDepartmentId();
+    String getDepartmentName();
+}
@@ -1,36 +1,67 @@
 package com.sheikhgalib.store.entity;
 
 import jakarta.persistence.*;
-import java.util.ArrayList;
-import java.util.List;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import java.util.HashSet;
+import java.util.Set;
 
 @Entity
-@Table(name = "courses")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "courses")
+@NaturalIdCache(region = "course-codes")
+@NamedEntityGraph(name = "Course.departmentAndTeacher", attributeNodes = {
+    @NamedAttributeNode("department"),
+    @NamedAttributeNode("teacher")
+})
+@Table(name = "courses", indexes = {
+    @Index(name = "idx_courses_name", columnList = "name, id")
+})
 public class Course {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_seq")
+    @SequenceGenerator(name = "course_seq", sequenceName = "courses_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private long version;
+
+    /**
+     * Bumped by {@code ViewVersions} when the course's enrollments or waitlist
+     * change. Written only by a native UPDATE that leaves the cache region
+     * alone, so the cached value is stale and must not be read.
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long relatedVersion;
+
     @Column(nullable = false)
     private String name;
 
-    @Column(unique = true, nullable = false)
+    @NaturalId(mutable = true)
+    @Column(nullable = false)
     private String courseCode;
 
     private String description;
 
     private Integer credits;
 
-    @ManyToOne
+    /** Maximum number of enrollments; {@code null} means unlimited. */
+    private Integer capacity;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "department_id")
     private Department department;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "teacher_id")
     private Teacher teacher;
 
-    @ManyToMany(mappedBy = "courses")
-    private List<Student> students = new ArrayList<>();
+    @OneToMany(mappedBy = "course")
+    private Set<Enrollment> enrollments = new HashSet<>();
 
     // Getters and Setters
     public Long getId() {
@@ -41,6 +72,14 @@ public class Course {
         this.id = id;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public String getName() {
         return name;
     }
@@ -73,6 +112,14 @@ public class Course {
         this.credits = credits;
     }
 
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
     public Department getDepartment() {
         return department;
     }
@@ -89,11 +136,11 @@ public class Course {
         this.teacher = teacher;
     }
 
-    public List<Student> getStudents() {
-        return students;
+    public Set<Enrollment> getEnrollments() {
+        return enrollments;
     }
 
-    public void setStudents(List<Student> students) {
-        this.students = students;
+    public void setEnrollments(Set<Enrollment> enrollments) {
+        this.enrollments = enrollments;
     }
 }
@@ -0,0 +1,92 @@
+package com.sheikhgalib.store.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * A student's place on a course. The composite key doubles as the
+ * student-to-course index; {@code idx_enrollments_course} serves the reverse
+ * direction. Implements {@link Persistable} so saving a new enrollment is a
+ * single INSERT rather than a merge that selects first.
+ */
+@Entity
+@Table(name = "enrollments", indexes = {
+    @Index(name = "idx_enrollments_course", columnList = "course_id, student_id")
+})
+public class Enrollment implements Persistable<EnrollmentId> {
+
+    @EmbeddedId
+    private EnrollmentId id;
+
+    @MapsId("studentId")
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "student_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Student student;
+
+    @MapsId("courseId")
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "course_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Course course;
+
+    @Column(nullable = false)
+    private LocalDateTime enrolledAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EnrollmentStatus status = EnrollmentStatus.ACTIVE;
+
+    @Transient
+    private boolean isNew = true;
+
+    protected Enrollment() {
+    }
+
+    public Enrollment(Student student, Course course, LocalDateTime enrolledAt) {
+        this.id = new EnrollmentId(student.getId(), course.getId());
+        this.student = student;
+        this.course = course;
+        this.enrolledAt = enrolledAt;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public EnrollmentId getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    public Course getCourse() {
+        return course;
+    }
+
+    public LocalDateTime getEnrolledAt() {
+        return enrolledAt;
+    }
+
+    public EnrollmentStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(EnrollmentStatus status) {
+        this.status = status;
+    }
+}
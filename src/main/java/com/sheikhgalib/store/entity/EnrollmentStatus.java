@@ -0,0 +1,7 @@
+package com.sheikhgalib.store.entity;
+
+public enum EnrollmentStatus {
+    ACTIVE,
+    COMPLETED,
+    WITHDRAWN
+}
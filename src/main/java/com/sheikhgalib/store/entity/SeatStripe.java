@@ -0,0 +1,76 @@
+package com.sheikhgalib.store.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * One share of a course's capacity. Seats are spread over several stripes so
+ * that concurrent reservations update different rows instead of queueing on
+ * a single counter; a stripe never goes past its own {@code seats}.
+ */
+@Entity
+@Table(name = "seat_stripes")
+public class SeatStripe implements Persistable<SeatStripeId> {
+
+    @EmbeddedId
+    private SeatStripeId id;
+
+    @MapsId("courseId")
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "course_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Course course;
+
+    @Column(nullable = false)
+    private int seats;
+
+    @Column(nullable = false)
+    private int taken;
+
+    @Transient
+    private boolean isNew = true;
+
+    protected SeatStripe() {
+    }
+
+    public SeatStripe(Course course, int stripe, int seats, int taken) {
+        this.id = new SeatStripeId(course.getId(), stripe);
+        this.course = course;
+        this.seats = seats;
+        this.taken = taken;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public SeatStripeId getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public int getSeats() {
+        return seats;
+    }
+
+    public int getTaken() {
+        return taken;
+    }
+
+    public void setTaken(int taken) {
+        this.taken = taken;
+    }
+
+    public int getFree() {
+        return Math.max(0, seats - taken);
+    }
+}
@@ -0,0 +1,49 @@
+package com.sheikhgalib.store.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class SeatStripeId implements Serializable {
+
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @Column(name = "stripe")
+    private Integer stripe;
+
+    public SeatStripeId() {
+    }
+
+    public SeatStripeId(Long courseId, Integer stripe) {
+        this.courseId = courseId;
+        this.stripe = stripe;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public Integer getStripe() {
+        return stripe;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SeatStripeId other)) {
+            return false;
+        }
+        return Objects.equals(courseId, other.courseId) && Objects.equals(stripe, other.stripe);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(courseId, stripe);
+    }
+}
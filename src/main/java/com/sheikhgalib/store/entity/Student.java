@@ -1,16 +1,29 @@
 package com.sheikhgalib.store.entity;
 
 import jakarta.persistence.*;
-import java.util.ArrayList;
-import java.util.List;
+import org.hibernate.annotations.ColumnDefault;
+import java.util.HashSet;
+import java.util.Set;
 
 @Entity
-@Table(name = "students")
+@NamedEntityGraph(name = "Student.department", attributeNodes = @NamedAttributeNode("department"))
+@Table(name = "students", indexes = {
+    @Index(name = "idx_students_last_name", columnList = "last_name, id")
+})
 public class Student {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "student_seq")
+    @SequenceGenerator(name = "student_seq", sequenceName = "students_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private long version;
+
+    /** Bumped by {@code ViewVersions} when the student's enrollments or waitlist entries change. */
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long relatedVersion;
+
     @Column(nullable = false)
     private String firstName;
 
@@ -25,19 +38,14 @@ public class Student {
 
     private String phone;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "department_id")
     private Department department;
 
-    @ManyToMany
-    @JoinTable(
-        name = "student_courses",
-        joinColumns = @JoinColumn(name = "student_id"),
-        inverseJoinColumns = @JoinColumn(name = "course_id")
-    )
-    private List<Course> courses = new ArrayList<>();
+    @OneToMany(mappedBy = "student")
+    private Set<Enrollment> enrollments = new HashSet<>();
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
@@ -50,6 +58,14 @@ public class Student {
         this.id = id;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public String getFirstName() {
         return firstName;
     }
@@ -98,12 +114,12 @@ public class Student {
         this.department = department;
     }
 
-    public List<Course> getCourses() {
-        return courses;
+    public Set<Enrollment> getEnrollments() {
+        return enrollments;
     }
 
-    public void setCourses(List<Course> courses) {
-        this.courses = courses;
+    public void setEnrollments(Set<Enrollment> enrollments) {
+        this.enrollments = enrollments;
     }
 
     public User getUser() {
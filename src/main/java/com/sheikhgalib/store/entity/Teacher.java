@@ -5,12 +5,19 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "teachers")
+@NamedEntityGraph(name = "Teacher.department", attributeNodes = @NamedAttributeNode("department"))
+@Table(name = "teachers", indexes = {
+    @Index(name = "idx_teachers_last_name", columnList = "last_name, id")
+})
 public class Teacher {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "teacher_seq")
+    @SequenceGenerator(name = "teacher_seq", sequenceName = "teachers_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private long version;
+
     @Column(nullable = false)
     private String firstName;
 
@@ -25,14 +32,14 @@ public class Teacher {
 
     private String phone;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "department_id")
     private Department department;
 
     @OneToMany(mappedBy = "teacher")
     private List<Course> courses = new ArrayList<>();
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
@@ -45,6 +52,14 @@ public class Teacher {
         this.id = id;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public String getFirstName() {
         return firstName;
     }
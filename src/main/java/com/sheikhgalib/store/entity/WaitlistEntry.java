@@ -0,0 +1,63 @@
+package com.sheikhgalib.store.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * A student waiting for a seat on a full course. The ticket comes from a
+ * database sequence with an allocation size of one, so tickets are handed out
+ * in the order students joined, across all application instances, and the
+ * head of a course's queue is the lowest ticket in {@code idx_waitlist_course}.
+ */
+@Entity
+@Table(name = "waitlist_entries",
+    uniqueConstraints = @UniqueConstraint(name = "uk_waitlist_course_student", columnNames = {"course_id", "student_id"}),
+    indexes = @Index(name = "idx_waitlist_course", columnList = "course_id, ticket"))
+public class WaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "waitlist_seq")
+    @SequenceGenerator(name = "waitlist_seq", sequenceName = "waitlist_seq", allocationSize = 1)
+    private Long ticket;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "course_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Course course;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "student_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Student student;
+
+    @Column(nullable = false)
+    private LocalDateTime joinedAt;
+
+    protected WaitlistEntry() {
+    }
+
+    public WaitlistEntry(Student student, Course course, LocalDateTime joinedAt) {
+        this.student = student;
+        this.course = course;
+        this.joinedAt = joinedAt;
+    }
+
+    public Long getTicket() {
+        return ticket;
+    }
+
+    public Course getCourse() {
+        return course;
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    public LocalDateTime getJoinedAt() {
+        return joinedAt;
+    }
+}
@@ -0,0 +1,99 @@
+package com.sheikhgalib.store.pagination;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Encodes keyset scroll positions as opaque, URL-safe cursor strings so list
+ * pages can seek directly to the next page instead of using OFFSET.
+ */
+public final class KeysetCursor {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    /** Rows per query when a whole list is rendered in one response. */
+    public static final int CHUNK_SIZE = 500;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .enable(DeserializationFeature.USE_LONG_FOR_INTS);
+
+    private static final TypeReference<LinkedHashMap<String, Object>> KEYS_TYPE = new TypeReference<>() {
+    };
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * Returns the cursor pointing after the last element of the window, or
+     * {@code null} when there is no next page.
+     */
+    public static String next(Window<?> window) {
+        if (window.isEmpty() || !window.hasNext()) {
+            return null;
+        }
+        ScrollPosition position = window.positionAt(window.size() - 1);
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            return null;
+        }
+        try {
+            byte[] json = MAPPER.writeValueAsBytes(keyset.getKeys());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode cursor", e);
+        }
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #next(Window)}. Missing, malformed or
+     * cursors created for a different sort order restart from the first page.
+     */
+    public static ScrollPosition decode(String cursor, Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        Map<String, Object> keys;
+        try {
+            keys = MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), KEYS_TYPE);
+        } catch (IllegalArgumentException | IOException e) {
+            return ScrollPosition.keyset();
+        }
+        Set<String> expected = new HashSet<>();
+        sort.forEach(order -> expected.add(order.getProperty()));
+        expected.add("id");
+        if (!keys.keySet().equals(expected) || keys.containsValue(null)) {
+            return ScrollPosition.keyset();
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * Builds a sort on a whitelisted, indexed property with {@code id} as the
+     * tie-breaker. Unknown properties fall back to sorting by id.
+     */
+    public static Sort sort(String property, String direction, Set<String> sortable) {
+        Sort.Direction dir = Sort.Direction.fromOptionalString(direction).orElse(Sort.Direction.ASC);
+        if (property == null || !sortable.contains(property) || "id".equals(property)) {
+            return Sort.by(dir, "id");
+        }
+        return Sort.by(new Sort.Order(dir, property), new Sort.Order(dir, "id"));
+    }
+
+    public static int size(Integer requested) {
+        if (requested == null || requested < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(requested, MAX_PAGE_SIZE);
+    }
+}
@@ -1,15 +1,67 @@
 package com.sheikhgalib.store.repository;
 
+import com.sheikhgalib.store.dto.CourseSummary;
 import com.sheikhgalib.store.entity.Course;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface CourseRepository extends JpaRepository<Course, Long> {
-    Optional<Course> findByCourseCode(String courseCode);
+public interface CourseRepository extends JpaRepository<Course, Long>, CourseRepositoryCustom,
+        SparseQueryRepository {
     List<Course> findByDepartmentId(Long departmentId);
     List<Course> findByTeacherId(Long teacherId);
+
+    @Override
+    @EntityGraph("Course.departmentAndTeacher")
+    Optional<Course> findById(Long id);
+
+    @EntityGraph("Course.departmentAndTeacher")
+    Window<Course> findBy(ScrollPosition position, Sort sort, Limit limit);
+
+    Window<CourseSummary> findSummariesBy(ScrollPosition position, Sort sort, Limit limit);
+
+    Optional<CourseSummary> findSummaryById(Long id);
+
+    @EntityGraph("Course.departmentAndTeacher")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Course> streamAllByOrderByIdAsc();
+
+    /** Fingerprint of the course page: course, department and teacher versions plus its enrollment and waitlist counter. */
+    @Query("""
+            select str(c.version) || ':' || str(c.relatedVersion)
+                || ':' || str(coalesce(d.version, 0)) || ':' || str(coalesce(t.version, 0))
+            from Course c left join c.department d left join c.teacher t
+            where c.id = :id""")
+    Optional<String> findViewVersionById(@Param("id") Long id);
+
+    /** Read from the database, unlike the "courses" cache region that other instances cannot evict. */
+    @Query("select c.capacity from Course c where c.id = :id")
+    Optional<Integer> findCapacityById(@Param("id") Long id);
+
+    /**
+     * Native, so Hibernate does not evict the whole "courses" cache region as
+     * it would for an HQL update; the synchronized space matches no entity.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "course_related_versions"))
+    @Query(value = "update courses set related_version = related_version + 1 where id = :id", nativeQuery = true)
+    int touchRelated(@Param("id") Long id);
 }
@@ -0,0 +1,9 @@
+package com.sheikhgalib.store.repository;
+
+import com.sheikhgalib.store.entity.Course;
+
+import java.util.Optional;
+
+public interface CourseRepositoryCustom {
+    Optional<Course> findByCourseCode(String courseCode);
+}
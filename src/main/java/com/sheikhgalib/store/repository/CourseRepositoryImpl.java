@@ -0,0 +1,27 @@
+package com.sheikhgalib.store.repository;
+
+import com.sheikhgalib.store.entity.Course;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Resolves courses by their natural id so repeated lookups are served from
+ * the second-level natural-id cache instead of a query.
+ */
+@Transactional(readOnly = true)
+public class CourseRepositoryImpl implements CourseRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Course> findByCourseCode(String courseCode) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Course.class)
+                .loadOptional(courseCode);
+    }
+}
@@ -1,12 +1,37 @@
 package com.sheikhgalib.store.repository;
 
+import com.sheikhgalib.store.dto.DepartmentSummary;
 import com.sheikhgalib.store.entity.Department;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface DepartmentRepository extends JpaRepository<Department, Long> {
-    Optional<Department> findByName(String name);
+public interface DepartmentRepository extends JpaRepository<Department, Long>, DepartmentRepositoryCustom,
+        SparseQueryRepository {
+
+    @Override
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "department-queries")
+    })
+    List<Department> findAll();
+
+    Window<DepartmentSummary> findSummariesBy(ScrollPosition position, Sort sort, Limit limit);
+
+    Optional<DepartmentSummary> findSummaryById(Long id);
+
+    @Query("select str(d.version) from Department d where d.id = :id")
+    Optional<String> findViewVersionById(@Param("id") Long id);
 }
@@ -0,0 +1,9 @@
+package com.sheikhgalib.store.repository;
+
+import com.sheikhgalib.store.entity.Department;
+
+import java.util.Optional;
+
+public interface DepartmentRepositoryCustom {
+    Optional<Department> findByName(String name);
+}
@@ -0,0 +1,27 @@
+package com.sheikhgalib.store.repository;
+
+import com.sheikhgalib.store.entity.Department;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Resolves departments by their natural id so repeated lookups are served
+ * from the second-level natural-id cache instead of a query.
+ */
+@Transactional(readOnly = true)
+public class DepartmentRepositoryImpl implements DepartmentRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Department> findByName(String name) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Department.class)
+                .loadOptional(name);
+    }
+}
@@ -0,0 +1,63 @@
+package com.sheikhgalib.store.repository;
+
+import com.sheikhgalib.store.dto.EnrollmentSummary;
+import com.sheikhgalib.store.entity.Enrollment;
+import com.sheikhgalib.store.entity.EnrollmentId;
+import com.sheikhgalib.store.entity.EnrollmentStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EnrollmentRepository extends JpaRepository<Enrollment, EnrollmentId>, EnrollmentRepositoryCustom {
+
+    @Query("select e from Enrollment e join fetch e.course where e.id.studentId = :studentId order by e.course.courseCode")
+    List<Enrollment> findByStudentIdWithCourse(@Param("studentId") Long studentId);
+
+    @Query("select e from Enrollment e join fetch e.student where e.id.courseId = :courseId order by e.student.lastName, e.student.id")
+    List<Enrollment> findByCourseIdWithStudent(@Param("courseId") Long courseId);
+
+    /** A student's enrollments with a course id above {@code afterCourseId}, in course id order. */
+    @Query("""
+            select e.id.studentId as studentId, s.firstName as studentFirstName, s.lastName as studentLastName,
+                e.id.courseId as courseId, c.courseCode as courseCode, c.name as courseName,
+                e.enrolledAt as enrolledAt, e.status as status
+            from Enrollment e join e.student s join e.course c
+            where e.id.studentId = :studentId and e.id.courseId > :afterCourseId
+            order by e.id.courseId""")
+    List<EnrollmentSummary> findSummariesByStudentId(@Param("studentId") Long studentId,
+                                                     @Param("afterCourseId") long afterCourseId, Limit limit);
+
+    /** A course's enrollments with a student id above {@code afterStudentId}, in student id order. */
+    @Query("""
+            select e.id.studentId as studentId, s.firstName as studentFirstName, s.lastName as studentLastName,
+                e.id.courseId as courseId, c.courseCode as courseCode, c.name as courseName,
+                e.enrolledAt as enrolledAt, e.status as status
+            from Enrollment e join e.student s join e.course c
+            where e.id.courseId = :courseId and e.id.studentId > :afterStudentId
+            order by e.id.studentId""")
+    List<EnrollmentSummary> findSummariesByCourseId(@Param("courseId") Long courseId,
+                                                    @Param("afterStudentId") long afterStudentId, Limit limit);
+
+    long countByIdCourseId(Long courseId);
+
+    long countByIdCourseIdAndStatus(Long courseId, EnrollmentStatus status);
+
+    long countByIdCourseIdAndIdStudentIdIn(Long courseId, Collection<Long> studentIds);
+
+    long countByIdCourseIdAndStudentDepartmentId(Long courseId, Long departmentId);
+
+    @Modifying
+    @Query("delete from Enrollment e where e.id = :id")
+    int deleteDirectlyById(@Param("id") EnrollmentId id);
+
+    @Modifying
+    @Query("update Enrollment e set e.status = :status where e.id = :id")
+    int updateStatus(@Param("id") EnrollmentId id, @Param("status") EnrollmentStatus status);
+}
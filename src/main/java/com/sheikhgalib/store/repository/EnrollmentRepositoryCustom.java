@@ -0,0 +1,11 @@
+package com.sheikhgalib.store.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface EnrollmentRepositoryCustom {
+    /** Inserts at most {@code limit} rows, lowest student id first; {@code null} means no limit. */
+    int insertForStudents(Long courseId, Collection<Long> studentIds, LocalDateTime enrolledAt, Long limit);
+
+    int insertForDepartment(Long courseId, Long departmentId, LocalDateTime enrolledAt, Long limit);
+}
@@ -0,0 +1,54 @@
+package com.sheikhgalib.store.repository;
+
+import com.sheikhgalib.store.entity.Enrollment;
+import com.sheikhgalib.store.entity.EnrollmentStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Set-based enrollment inserts. Each call is a single INSERT ... SELECT that
+ * only picks up existing students who are not already on the course, so
+ * unknown ids and duplicates are skipped by the database without loading
+ * any entities. An optional limit caps the insert at the seats left on the
+ * course. The queries are synchronized on {@link Enrollment} so they
+ * do not invalidate unrelated second-level cache regions.
+ */
+public class EnrollmentRepositoryImpl implements EnrollmentRepositoryCustom {
+
+    private static final String INSERT_SELECT =
+            "insert into enrollments (student_id, course_id, enrolled_at, status) " +
+            "select s.id, :courseId, :enrolledAt, :status from students s where %s " +
+            "and not exists (select 1 from enrollments e where e.student_id = s.id and e.course_id = :courseId)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int insertForStudents(Long courseId, Collection<Long> studentIds, LocalDateTime enrolledAt, Long limit) {
+        return insert("s.id in (:studentIds)", courseId, enrolledAt, limit)
+                .setParameter("studentIds", studentIds)
+                .executeUpdate();
+    }
+
+    @Override
+    public int insertForDepartment(Long courseId, Long departmentId, LocalDateTime enrolledAt, Long limit) {
+        return insert("s.department_id = :departmentId", courseId, enrolledAt, limit)
+                .setParameter("departmentId", departmentId)
+                .executeUpdate();
+    }
+
+    private NativeQuery<?> insert(String filter, Long courseId, LocalDateTime enrolledAt, Long limit) {
+        String sql = INSERT_SELECT.formatted(filter) + (limit != null ? " order by s.id limit :limit" : "");
+        NativeQuery<?> query = entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Enrollment.class)
+                .setParameter("courseId", courseId)
+                .setParameter("enrolledAt", enrolledAt)
+                .setParameter("status", EnrollmentStatus.ACTIVE.name());
+        return limit != null ? query.setParameter("limit", limit) : query;
+    }
+}
@@ -0,0 +1,44 @@
+package com.sheikhgalib.store.repository;
+
+import com.sheikhgalib.store.entity.SeatStripe;
+import com.sheikhgalib.store.entity.SeatStripeId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SeatStripeRepository extends JpaRepository<SeatStripe, SeatStripeId> {
+
+    boolean existsByIdCourseId(Long courseId);
+
+    @Modifying
+    @Query("update SeatStripe s set s.taken = s.taken + 1 where s.id = :id and s.taken < s.seats")
+    int takeSeat(@Param("id") SeatStripeId id);
+
+    @Modifying
+    @Query("update SeatStripe s set s.taken = s.taken - 1 where s.id = :id and s.taken > 0")
+    int releaseSeat(@Param("id") SeatStripeId id);
+
+    @Query("select s.id.stripe from SeatStripe s where s.id.courseId = :courseId and s.taken < s.seats")
+    List<Integer> findStripesWithFreeSeats(@Param("courseId") Long courseId);
+
+    @Query("select s.id.stripe from SeatStripe s where s.id.courseId = :courseId and s.taken > 0")
+    List<Integer> findStripesWithTakenSeats(@Param("courseId") Long courseId);
+
+    @Query("select coalesce(sum(s.taken), 0) from SeatStripe s where s.id.courseId = :courseId")
+    long sumTaken(@Param("courseId") Long courseId);
+
+    /** Total seats of the course, or {@code null} if it has no stripes. */
+    @Query("select sum(s.seats) from SeatStripe s where s.id.courseId = :courseId")
+    Long sumSeats(@Param("courseId") Long courseId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from SeatStripe s where s.id.courseId = :courseId order by s.id.stripe")
+    List<SeatStripe> findByCourseIdForUpdate(@Param("courseId") Long courseId);
+}
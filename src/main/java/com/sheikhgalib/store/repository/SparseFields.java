@@ -0,0 +1,96 @@
+package com.sheikhgalib.store.repository;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The columns and associations of one entity that API clients may ask for
+ * by name, and the attribute paths they map to. A {@link Selection} made from
+ * it turns into the select list and joins of a {@link SparseQueryRepository}
+ * query, so unrequested columns are never read and unexpanded associations
+ * never joined.
+ */
+public final class SparseFields {
+
+    private final Class<?> entityType;
+    private final Map<String, String> fields = new LinkedHashMap<>();
+    private final Map<String, Map<String, String>> expansions = new LinkedHashMap<>();
+
+    public SparseFields(Class<?> entityType) {
+        this.entityType = entityType;
+    }
+
+    /** Adds a field read from {@code path}, e.g. {@code department.id} for the foreign key. */
+    public SparseFields field(String name, String path) {
+        fields.put(name, path);
+        return this;
+    }
+
+    public SparseFields fields(String... names) {
+        for (String name : names) {
+            field(name, name);
+        }
+        return this;
+    }
+
+    /** Adds an association that {@code expand} can join, with the attributes it then returns. */
+    public SparseFields expansion(String association, String... attributes) {
+        Map<String, String> columns = new LinkedHashMap<>();
+        for (String attribute : attributes) {
+            columns.put(attribute, attribute);
+        }
+        expansions.put(association, columns);
+        return this;
+    }
+
+    Class<?> entityType() {
+        return entityType;
+    }
+
+    String path(String field) {
+        return fields.get(field);
+    }
+
+    Map<String, String> expansion(String association) {
+        return expansions.get(association);
+    }
+
+    /**
+     * Parses comma-separated {@code fields} and {@code expand} parameters.
+     * Missing or blank {@code fields} means every field.
+     *
+     * @throws IllegalArgumentException for names this entity does not have
+     */
+    public Selection select(String fieldList, String expandList) {
+        Set<String> selected = names(fieldList);
+        if (selected.isEmpty()) {
+            selected = fields.keySet();
+        } else if (!fields.keySet().containsAll(selected)) {
+            selected.removeAll(fields.keySet());
+            throw new IllegalArgumentException("Unknown fields " + selected + "; expected some of " + fields.keySet());
+        }
+        Set<String> expand = names(expandList);
+        if (!expansions.keySet().containsAll(expand)) {
+            expand.removeAll(expansions.keySet());
+            throw new IllegalArgumentException("Unknown expansions " + expand + "; expected some of " + expansions.keySet());
+        }
+        return new Selection(this, Collections.unmodifiableSet(new LinkedHashSet<>(selected)),
+                Collections.unmodifiableSet(expand));
+    }
+
+    private static Set<String> names(String list) {
+        Set<String> names = new LinkedHashSet<>();
+        if (list != null) {
+            Arrays.stream(list.split(",")).map(String::trim).filter(name -> !name.isEmpty()).forEach(names::add);
+        }
+        return names;
+    }
+
+    /** Validated fields and expansions for one request. */
+    public record Selection(SparseFields source, Set<String> fields, Set<String> expand) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.sheikhgalib.store.repository;
+
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Repository fragment for API reads that select only the fields a client
+ * asked for. Rows come back as maps keyed by field name, with each expanded
+ * association as a nested map.
+ */
+public interface SparseQueryRepository {
+
+    /** A keyset window of rows; {@code sort} properties must be fields of the entity. */
+    Window<Map<String, Object>> findSparse(SparseFields.Selection selection, ScrollPosition position, Sort sort,
+                                           int limit);
+
+    Optional<Map<String, Object>> findSparseById(SparseFields.Selection selection, Object id);
+}
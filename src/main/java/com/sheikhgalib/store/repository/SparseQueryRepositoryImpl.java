@@ -0,0 +1,141 @@
+package com.sheikhgalib.store.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Builds one criteria tuple query per request: the requested fields plus
+ * whatever the keyset needs, a left join per expanded association, and the
+ * seek predicate for the scroll position. Foreign-key fields such as
+ * {@code departmentId} read the key column without a join.
+ */
+@Transactional(readOnly = true)
+public class SparseQueryRepositoryImpl implements SparseQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Window<Map<String, Object>> findSparse(SparseFields.Selection selection, ScrollPosition position,
+                                                  Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<?> root = query.from(selection.source().entityType());
+
+        Set<String> keys = new LinkedHashSet<>();
+        sort.forEach(order -> keys.add(order.getProperty()));
+        query.multiselect(selections(selection, root, keys));
+
+        if (position instanceof KeysetScrollPosition keyset && !keyset.isInitial()) {
+            query.where(seek(cb, root, selection.source(), sort, keyset.getKeys()));
+        }
+        query.orderBy(sort.stream()
+                .map(order -> order.isAscending()
+                        ? cb.asc(path(root, selection.source(), order.getProperty()))
+                        : cb.desc(path(root, selection.source(), order.getProperty())))
+                .toList());
+
+        // One extra row tells whether there is a next page
+        List<Tuple> tuples = entityManager.createQuery(query).setMaxResults(limit + 1).getResultList();
+        boolean hasNext = tuples.size() > limit;
+        List<Tuple> page = hasNext ? tuples.subList(0, limit) : tuples;
+
+        List<Map<String, Object>> rows = page.stream().map(tuple -> row(selection, tuple)).toList();
+        return Window.from(rows, i -> {
+            Map<String, Object> keyValues = new LinkedHashMap<>();
+            keys.forEach(key -> keyValues.put(key, page.get(i).get(key)));
+            return ScrollPosition.forward(keyValues);
+        }, hasNext);
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findSparseById(SparseFields.Selection selection, Object id) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<?> root = query.from(selection.source().entityType());
+        query.multiselect(selections(selection, root, Set.of()));
+        query.where(cb.equal(root.get("id"), id));
+        return entityManager.createQuery(query).getResultStream().findFirst().map(tuple -> row(selection, tuple));
+    }
+
+    private List<Selection<?>> selections(SparseFields.Selection selection, Root<?> root, Set<String> keys) {
+        SparseFields source = selection.source();
+        Set<String> fields = new LinkedHashSet<>(selection.fields());
+        fields.addAll(keys);
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : fields) {
+            selections.add(path(root, source, field).alias(field));
+        }
+        for (String association : selection.expand()) {
+            Join<?, ?> join = root.join(association, JoinType.LEFT);
+            source.expansion(association).forEach((name, attribute) ->
+                    selections.add(join.get(attribute).alias(association + "." + name)));
+        }
+        return selections;
+    }
+
+    private static Map<String, Object> row(SparseFields.Selection selection, Tuple tuple) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String field : selection.fields()) {
+            row.put(field, tuple.get(field));
+        }
+        for (String association : selection.expand()) {
+            Map<String, Object> nested = new LinkedHashMap<>();
+            for (String name : selection.source().expansion(association).keySet()) {
+                nested.put(name, tuple.get(association + "." + name));
+            }
+            // A left join that found nothing gives all-null columns
+            row.put(association, nested.values().stream().allMatch(value -> value == null) ? null : nested);
+        }
+        return row;
+    }
+
+    /** (k1 > v1) or (k1 = v1 and k2 > v2) ..., with the comparison flipped for descending orders. */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate seek(CriteriaBuilder cb, Root<?> root, SparseFields source, Sort sort,
+                                  Map<String, Object> keys) {
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> equalSoFar = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Path<Comparable> path = (Path<Comparable>) path(root, source, order.getProperty());
+            Comparable value = (Comparable) keys.get(order.getProperty());
+            List<Predicate> alternative = new ArrayList<>(equalSoFar);
+            alternative.add(order.isAscending() ? cb.greaterThan(path, value) : cb.lessThan(path, value));
+            alternatives.add(cb.and(alternative.toArray(Predicate[]::new)));
+            equalSoFar.add(cb.equal(path, value));
+        }
+        return cb.or(alternatives.toArray(Predicate[]::new));
+    }
+
+    private static Path<?> path(From<?, ?> root, SparseFields source, String field) {
+        String mapped = source.path(field);
+        Path<?> path = root;
+        for (String attribute : (mapped == null ? field : mapped).split("\\.")) {
+            path = path.get(attribute);
+        }
+        return path;
+    }
+}
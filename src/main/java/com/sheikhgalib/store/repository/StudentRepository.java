@@ -1,15 +1,90 @@
 package com.sheikhgalib.store.repository;
 
+import com.sheikhgalib.store.dto.StudentSummary;
 import com.sheikhgalib.store.entity.Student;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface StudentRepository extends JpaRepository<Student, Long> {
+public interface StudentRepository extends JpaRepository<Student, Long>, SparseQueryRepository {
     Optional<Student> findByEmail(String email);
     Optional<Student> findByStudentId(String studentId);
     List<Student> findByDepartmentId(Long departmentId);
+    long countByDepartmentId(Long departmentId);
+    long countByIdIn(Collection<Long> ids);
+
+    @Query("select s.email from Student s where s.email in :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("select s.studentId from Student s where s.studentId in :studentIds")
+    Set<String> findExistingStudentIds(@Param("studentIds") Collection<String> studentIds);
+
+    @Override
+    @EntityGraph("Student.department")
+    Optional<Student> findById(Long id);
+
+    @EntityGraph("Student.department")
+    Window<Student> findBy(ScrollPosition position, Sort sort, Limit limit);
+
+    Window<StudentSummary> findSummariesBy(ScrollPosition position, Sort sort, Limit limit);
+
+    Optional<StudentSummary> findSummaryById(Long id);
+
+    @EntityGraph("Student.department")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Student> streamAllByOrderByIdAsc();
+
+    /**
+     * Fingerprint of everything the student page shows: the student and department versions plus the
+     * counter {@code ViewVersions} bumps for enrollment and waitlist changes.
+     */
+    @Query("""
+            select str(s.version) || ':' || str(s.relatedVersion) || ':' || str(coalesce(d.version, 0))
+            from Student s left join s.department d
+            where s.id = :id""")
+    Optional<String> findViewVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Student s set s.relatedVersion = s.relatedVersion + 1 where s.id in :ids")
+    int touchRelated(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update Student s set s.relatedVersion = s.relatedVersion + 1 where s.department.id = :departmentId")
+    int touchRelatedByDepartmentId(@Param("departmentId") Long departmentId);
+
+    /** Students enrolled on or waiting for the course. */
+    @Modifying
+    @Query("""
+            update Student s set s.relatedVersion = s.relatedVersion + 1
+            where s.id in (select e.id.studentId from Enrollment e where e.id.courseId = :courseId)
+               or s.id in (select w.student.id from WaitlistEntry w where w.course.id = :courseId)""")
+    int touchRelatedByCourseId(@Param("courseId") Long courseId);
+
+    /** Students queued behind the ticket, whose positions move when it leaves the queue. */
+    @Modifying
+    @Query("""
+            update Student s set s.relatedVersion = s.relatedVersion + 1
+            where s.id in (select w.student.id from WaitlistEntry w
+                           where w.course.id = :courseId and w.ticket > :ticket)""")
+    int touchRelatedByWaitersAfter(@Param("courseId") Long courseId, @Param("ticket") Long ticket);
 }
@@ -1,15 +1,52 @@
 package com.sheikhgalib.store.repository;
 
+import com.sheikhgalib.store.dto.TeacherSummary;
 import com.sheikhgalib.store.entity.Teacher;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TeacherRepository extends JpaRepository<Teacher, Long> {
+public interface TeacherRepository extends JpaRepository<Teacher, Long>, SparseQueryRepository {
     Optional<Teacher> findByEmail(String email);
     Optional<Teacher> findByEmployeeId(String employeeId);
     List<Teacher> findByDepartmentId(Long departmentId);
+
+    @Override
+    @EntityGraph("Teacher.department")
+    Optional<Teacher> findById(Long id);
+
+    @EntityGraph("Teacher.department")
+    Window<Teacher> findBy(ScrollPosition position, Sort sort, Limit limit);
+
+    Window<TeacherSummary> findSummariesBy(ScrollPosition position, Sort sort, Limit limit);
+
+    Optional<TeacherSummary> findSummaryById(Long id);
+
+    @EntityGraph("Teacher.department")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Teacher> streamAllByOrderByIdAsc();
+
+    /** Fingerprint of the teacher page: the teacher and department versions. */
+    @Query("""
+            select str(t.version) || ':' || str(coalesce(d.version, 0))
+            from Teacher t left join t.department d
+            where t.id = :id""")
+    Optional<String> findViewVersionById(@Param("id") Long id);
 }
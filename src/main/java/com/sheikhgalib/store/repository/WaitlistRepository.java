@@ -0,0 +1,38 @@
+package com.sheikhgalib.store.repository;
+
+import com.sheikhgalib.store.entity.WaitlistEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WaitlistRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    boolean existsByCourseId(Long courseId);
+
+    boolean existsByCourseIdAndStudentId(Long courseId, Long studentId);
+
+    List<WaitlistEntry> findByCourseIdOrderByTicketAsc(Long courseId, Limit limit);
+
+    @Query("select w.ticket from WaitlistEntry w where w.course.id = :courseId and w.student.id = :studentId")
+    Optional<Long> findTicketByCourseIdAndStudentId(@Param("courseId") Long courseId, @Param("studentId") Long studentId);
+
+    @Query("select w.ticket from WaitlistEntry w where w.course.id = :courseId order by w.ticket")
+    List<Long> findTicketsByCourseId(@Param("courseId") Long courseId);
+
+    @Query("select w from WaitlistEntry w join fetch w.course where w.student.id = :studentId order by w.ticket")
+    List<WaitlistEntry> findByStudentIdWithCourse(@Param("studentId") Long studentId);
+
+    @Query("select distinct w.course.id from WaitlistEntry w")
+    List<Long> findCourseIdsWithWaiters();
+
+    @Modifying
+    @Query("delete from WaitlistEntry w where w.ticket = :ticket")
+    int deleteByTicket(@Param("ticket") Long ticket);
+}
@@ -0,0 +1,120 @@
+package com.sheikhgalib.store.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory prefix index for typeahead over people's names and course codes.
+ * Each type has its own sorted map, so a lookup is a range scan starting at
+ * the prefix and stops after {@code limit} matches. People are indexed under
+ * their full name and each later word of it, so "smi" finds "John Smith".
+ * Reads are lock-free; single entries can be replaced without a rebuild.
+ */
+@Component
+public class PrefixIndex {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final Map<SearchType, ConcurrentSkipListMap<String, Suggestion>> terms = new EnumMap<>(SearchType.class);
+    private final Map<String, List<String>> termsByEntity = new ConcurrentHashMap<>();
+
+    public PrefixIndex() {
+        for (SearchType type : SearchType.values()) {
+            terms.put(type, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    public synchronized void index(SearchDocument document) {
+        remove(document.type(), document.id());
+        Suggestion suggestion = new Suggestion(document.type(), document.id(), label(document));
+        List<String> keys = new ArrayList<>();
+        for (String term : terms(document)) {
+            String key = term + KEY_SEPARATOR + document.id();
+            terms.get(document.type()).put(key, suggestion);
+            keys.add(key);
+        }
+        termsByEntity.put(entityKey(document.type(), document.id()), keys);
+    }
+
+    public synchronized void remove(SearchType type, Long id) {
+        List<String> keys = termsByEntity.remove(entityKey(type, id));
+        if (keys != null) {
+            keys.forEach(terms.get(type)::remove);
+        }
+    }
+
+    public synchronized void clear() {
+        terms.values().forEach(Map::clear);
+        termsByEntity.clear();
+    }
+
+    public int size() {
+        return termsByEntity.size();
+    }
+
+    /**
+     * Returns up to {@code limit} distinct entities with a term starting with
+     * {@code prefix}, sorted by label. Each type contributes at most its first
+     * {@code limit} matches, so no type crowds out the others.
+     */
+    public List<Suggestion> suggest(String prefix, Set<SearchType> types, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        List<Suggestion> matches = new ArrayList<>();
+        for (SearchType type : types) {
+            Set<Suggestion> ofType = new LinkedHashSet<>();
+            for (Suggestion suggestion : terms.get(type).subMap(normalized, normalized + Character.MAX_VALUE).values()) {
+                ofType.add(suggestion);
+                if (ofType.size() >= limit) {
+                    break;
+                }
+            }
+            matches.addAll(ofType);
+        }
+        return matches.stream().sorted((a, b) -> a.label().compareToIgnoreCase(b.label())).limit(limit).toList();
+    }
+
+    private static List<String> terms(SearchDocument document) {
+        Set<String> terms = new LinkedHashSet<>();
+        String name = normalize(document.title());
+        if (!name.isEmpty()) {
+            terms.add(name);
+            for (int i = name.indexOf(' '); i >= 0; i = name.indexOf(' ', i + 1)) {
+                terms.add(name.substring(i + 1));
+            }
+        }
+        if (document.type() == SearchType.COURSE) {
+            String code = normalize(document.subtitle());
+            if (!code.isEmpty()) {
+                terms.add(code);
+            }
+        }
+        return new ArrayList<>(terms);
+    }
+
+    private static String label(SearchDocument document) {
+        if (document.type() == SearchType.COURSE && document.subtitle() != null) {
+            return document.subtitle() + " - " + document.title();
+        }
+        return document.title();
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String entityKey(SearchType type, Long id) {
+        return type.name() + ":" + id;
+    }
+}
@@ -0,0 +1,58 @@
+package com.sheikhgalib.store.search;
+
+import com.sheikhgalib.store.entity.Course;
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.entity.Teacher;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * The searchable view of an entity. {@code keywords} are matched exactly
+ * (emails, student, employee and course codes) as well as by their words.
+ */
+public record SearchDocument(SearchType type, Long id, String title, String subtitle,
+                             List<String> keywords, String description) {
+
+    public static SearchDocument of(Student student) {
+        return new SearchDocument(SearchType.STUDENT, student.getId(),
+                student.getFirstName() + " " + student.getLastName(), student.getEmail(),
+                keywords(student.getEmail(), student.getStudentId()), null);
+    }
+
+    public static SearchDocument of(Teacher teacher) {
+        return new SearchDocument(SearchType.TEACHER, teacher.getId(),
+                teacher.getFirstName() + " " + teacher.getLastName(), teacher.getEmail(),
+                keywords(teacher.getEmail(), teacher.getEmployeeId()), null);
+    }
+
+    public static SearchDocument of(Course course) {
+        return new SearchDocument(SearchType.COURSE, course.getId(),
+                course.getName(), course.getCourseCode(),
+                keywords(course.getCourseCode()), course.getDescription());
+    }
+
+    /** Returns the document for a searchable entity, or {@code null} for any other object. */
+    public static SearchDocument from(Object entity) {
+        if (entity instanceof Student student) {
+            return of(student);
+        }
+        if (entity instanceof Teacher teacher) {
+            return of(teacher);
+        }
+        if (entity instanceof Course course) {
+            return of(course);
+        }
+        return null;
+    }
+
+    public static boolean supports(Class<?> entityClass) {
+        return Student.class.isAssignableFrom(entityClass) || Teacher.class.isAssignableFrom(entityClass)
+                || Course.class.isAssignableFrom(entityClass);
+    }
+
+    private static List<String> keywords(String... values) {
+        return Stream.of(values).filter(Objects::nonNull).toList();
+    }
+}
@@ -0,0 +1,8 @@
+package com.sheikhgalib.store.search;
+
+public record SearchHit(SearchType type, Long id, String title, String subtitle, float score) {
+
+    public String getViewPath() {
+        return type.getViewPath() + id;
+    }
+}
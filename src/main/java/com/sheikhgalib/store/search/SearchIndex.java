@@ -0,0 +1,230 @@
+package com.sheikhgalib.store.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.core.KeywordTokenizer;
+import org.apache.lucene.analysis.core.LowerCaseFilter;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lucene index over students, teachers and courses. Writes are visible to
+ * searches within about a second and committed to disk every
+ * {@code store.search.commit-interval}. With no {@code store.search.index-dir}
+ * the index is kept in memory.
+ */
+@Component
+public class SearchIndex implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndex.class);
+
+    private static final String KEY = "key";
+    private static final String TYPE = "type";
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String SUBTITLE = "subtitle";
+    private static final String NAME = "name";
+    private static final String KEYWORD = "keyword";
+    private static final String TEXT = "text";
+
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(KEYWORD, 4f, NAME, 2f, TEXT, 1f);
+
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+    private final ScheduledExecutorService committer;
+
+    public SearchIndex(@Value("${store.search.index-dir:}") String indexDir,
+                       @Value("${store.search.commit-interval:10s}") Duration commitInterval) throws IOException {
+        this.directory = indexDir.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexDir));
+        this.analyzer = new PerFieldAnalyzerWrapper(new StandardAnalyzer(), Map.of(KEYWORD, new LowerCaseKeywordAnalyzer()));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+        this.reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager, 1.0, 0.05);
+        this.reopenThread.setName("search-index-reopen");
+        this.reopenThread.setDaemon(true);
+        this.reopenThread.start();
+        this.committer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-index-commit");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = commitInterval.toMillis();
+        this.committer.scheduleWithFixedDelay(this::commit, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void index(SearchDocument document) {
+        try {
+            writer.updateDocument(new Term(KEY, key(document.type(), document.id())), toLucene(document));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(SearchType type, Long id) {
+        try {
+            writer.deleteDocuments(new Term(KEY, key(type, id)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void deleteAll() {
+        try {
+            writer.deleteAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Makes every write so far visible to searches before returning. */
+    public void refresh() {
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long size() {
+        return writer.getDocStats().numDocs;
+    }
+
+    /**
+     * Runs a relevance-ranked search. Every word must match one of the
+     * name, keyword or text fields; {@code "quoted phrases"}, {@code prefix*}
+     * and {@code -exclusions} are supported.
+     */
+    public SearchResult search(String queryText, Set<SearchType> types, int limit) {
+        if (queryText == null || queryText.isBlank() || types.isEmpty()) {
+            return SearchResult.empty();
+        }
+        long start = System.nanoTime();
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, FIELD_WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query textQuery = parser.parse(queryText.trim());
+        if (textQuery == null) {
+            return SearchResult.empty();
+        }
+        Query query = new BooleanQuery.Builder()
+                .add(textQuery, BooleanClause.Occur.MUST)
+                .add(new TermInSetQuery(TYPE, types.stream().map(type -> new BytesRef(type.name())).toList()),
+                        BooleanClause.Occur.FILTER)
+                .build();
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, limit);
+                List<SearchHit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    Document document = searcher.storedFields().document(scoreDoc.doc);
+                    hits.add(new SearchHit(SearchType.valueOf(document.get(TYPE)),
+                            document.getField(ID).numericValue().longValue(),
+                            document.get(TITLE), document.get(SUBTITLE), scoreDoc.score));
+                }
+                return new SearchResult(hits, topDocs.totalHits.value, (System.nanoTime() - start) / 1_000_000);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        committer.shutdown();
+        reopenThread.close();
+        commit();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to commit search index", e);
+        }
+    }
+
+    private static Document toLucene(SearchDocument source) {
+        Document document = new Document();
+        document.add(new StringField(KEY, key(source.type(), source.id()), Field.Store.NO));
+        document.add(new StringField(TYPE, source.type().name(), Field.Store.YES));
+        document.add(new StoredField(ID, source.id()));
+        document.add(new StoredField(TITLE, nullToEmpty(source.title())));
+        document.add(new StoredField(SUBTITLE, nullToEmpty(source.subtitle())));
+        document.add(new TextField(NAME, nullToEmpty(source.title()), Field.Store.NO));
+        for (String keyword : source.keywords()) {
+            document.add(new StringField(KEYWORD, keyword.toLowerCase(Locale.ROOT), Field.Store.NO));
+            document.add(new TextField(TEXT, keyword, Field.Store.NO));
+        }
+        if (source.description() != null) {
+            document.add(new TextField(TEXT, source.description(), Field.Store.NO));
+        }
+        return document;
+    }
+
+    private static String key(SearchType type, Long id) {
+        return type.name() + ":" + id;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    /** Treats the whole input as one lower-cased token, matching how keywords are indexed. */
+    private static final class LowerCaseKeywordAnalyzer extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            KeywordTokenizer tokenizer = new KeywordTokenizer();
+            return new TokenStreamComponents(tokenizer, new LowerCaseFilter(tokenizer));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.sheikhgalib.store.search;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the {@link SearchIndex} and {@link PrefixIndex} in step with students,
+ * teachers and courses written through Hibernate. Changes are applied after
+ * the transaction commits, so rolled-back writes never reach either index.
+ */
+@Component
+public class SearchIndexListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexListener.class);
+
+    private final SearchIndex searchIndex;
+    private final PrefixIndex prefixIndex;
+
+    public SearchIndexListener(SearchIndex searchIndex, PrefixIndex prefixIndex, EntityManagerFactory entityManagerFactory) {
+        this.searchIndex = searchIndex;
+        this.prefixIndex = prefixIndex;
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        index(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        index(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        SearchDocument document = SearchDocument.from(event.getEntity());
+        if (document != null) {
+            prefixIndex.remove(document.type(), document.id());
+            searchIndex.delete(document.type(), document.id());
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return SearchDocument.supports(persister.getMappedClass());
+    }
+
+    private void index(Object entity) {
+        SearchDocument document = SearchDocument.from(entity);
+        if (document != null) {
+            prefixIndex.index(document);
+            try {
+                searchIndex.index(document);
+            } catch (RuntimeException e) {
+                // The database write already committed; a rebuild will pick this entity up
+                log.warn("Failed to index {} {}", document.type(), document.id(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.sheikhgalib.store.search;
+
+import com.sheikhgalib.store.repository.CourseRepository;
+import com.sheikhgalib.store.repository.StudentRepository;
+import com.sheikhgalib.store.repository.TeacherRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Loads the search indexes from the database. The in-memory prefix index is
+ * filled at every startup; the full-text index is rebuilt only when it is
+ * empty (or always with {@code store.search.rebuild-on-startup=true}).
+ * Rebuilding also catches up on changes made outside Hibernate, such as bulk
+ * JPQL deletes.
+ */
+@Component
+public class SearchIndexRebuilder {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexRebuilder.class);
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private PrefixIndex prefixIndex;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${store.search.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public SearchIndexRebuilder(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfNeeded() {
+        load(rebuildOnStartup || searchIndex.size() == 0);
+    }
+
+    public long rebuild() {
+        return load(true);
+    }
+
+    private long load(boolean fullText) {
+        long start = System.nanoTime();
+        prefixIndex.clear();
+        if (fullText) {
+            searchIndex.deleteAll();
+        }
+        long count = readOnlyTransaction.execute(status ->
+                indexAll(studentRepository.streamAllByOrderByIdAsc(), SearchDocument::of, fullText)
+                        + indexAll(teacherRepository.streamAllByOrderByIdAsc(), SearchDocument::of, fullText)
+                        + indexAll(courseRepository.streamAllByOrderByIdAsc(), SearchDocument::of, fullText));
+        if (fullText) {
+            searchIndex.refresh();
+        }
+        log.info("Loaded {} documents into the {} in {} ms", count,
+                fullText ? "search and prefix indexes" : "prefix index", (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+
+    private <E> long indexAll(Stream<E> entities, Function<E, SearchDocument> toDocument, boolean fullText) {
+        long count = 0;
+        try (entities) {
+            for (E entity : (Iterable<E>) entities::iterator) {
+                SearchDocument document = toDocument.apply(entity);
+                prefixIndex.index(document);
+                if (fullText) {
+                    searchIndex.index(document);
+                }
+                entityManager.detach(entity);
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,10 @@
+package com.sheikhgalib.store.search;
+
+import java.util.List;
+
+public record SearchResult(List<SearchHit> hits, long totalHits, long tookMillis) {
+
+    public static SearchResult empty() {
+        return new SearchResult(List.of(), 0, 0);
+    }
+}
@@ -0,0 +1,34 @@
+package com.sheikhgalib.store.search;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Kinds of entity held in the search index, with the page that shows one.
+ */
+public enum SearchType {
+    STUDENT("/student/view/"),
+    TEACHER("/teacher/view/"),
+    COURSE("/course/view/");
+
+    private final String viewPath;
+
+    SearchType(String viewPath) {
+        this.viewPath = viewPath;
+    }
+
+    public String getViewPath() {
+        return viewPath;
+    }
+
+    /** Teachers are only listed to staff, matching access to /teacher/**. */
+    public static Set<SearchType> visibleTo(Authentication authentication) {
+        boolean staff = authentication != null && authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(authority -> authority.equals("ROLE_TEACHER") || authority.equals("ROLE_ADMIN"));
+        return staff ? EnumSet.allOf(SearchType.class) : EnumSet.of(STUDENT, COURSE);
+    }
+}
@@ -0,0 +1,4 @@
+package com.sheikhgalib.store.search;
+
+public record Suggestion(SearchType type, Long id, String label) {
+}
@@ -0,0 +1,86 @@
+package com.sheikhgalib.store.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Bounded, time-limited cache of the data needed to build a {@link UserDetails}.
+ * An immutable snapshot is cached and a fresh UserDetails is built on every
+ * hit, because Spring Security erases credentials on the instance it returns.
+ */
+@Component
+public class UserDetailsCache implements MeterBinder {
+
+    record Snapshot(String username, String password, boolean enabled, Set<GrantedAuthority> authorities) {
+
+        UserDetails toUserDetails() {
+            return new org.springframework.security.core.userdetails.User(
+                    username, password, enabled, true, true, true, authorities);
+        }
+    }
+
+    private final Cache<String, Snapshot> cache;
+
+    public UserDetailsCache(@Value("${store.security.user-cache.maximum-size:10000}") long maximumSize,
+                            @Value("${store.security.user-cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    UserDetails get(String username, Function<String, Snapshot> loader) {
+        return cache.get(username, loader).toUserDetails();
+    }
+
+    /**
+     * Evicts the user now and, if a transaction is in progress, again once it
+     * completes so that a concurrent login cannot re-cache the old state.
+     */
+    public void evict(String username) {
+        if (username == null) {
+            return;
+        }
+        cache.invalidate(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(username);
+                }
+            });
+        }
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "userDetails");
+    }
+}
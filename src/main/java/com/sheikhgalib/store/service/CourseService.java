@@ -1,41 +1,143 @@
 package com.sheikhgalib.store.service;
 
+import com.sheikhgalib.store.dto.CourseSummary;
 import com.sheikhgalib.store.entity.Course;
+import com.sheikhgalib.store.pagination.KeysetCursor;
 import com.sheikhgalib.store.repository.CourseRepository;
+import com.sheikhgalib.store.repository.SparseFields;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
 public class CourseService {
 
+    /** Fields and expansions the JSON API can select on courses. */
+    public static final SparseFields API_FIELDS = new SparseFields(Course.class)
+            .fields("id", "courseCode", "name", "description", "credits", "capacity")
+            .field("departmentId", "department.id")
+            .field("teacherId", "teacher.id")
+            .expansion("department", "id", "name")
+            .expansion("teacher", "id", "firstName", "lastName", "email");
+
+    public static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "courseCode", "name");
+
     @Autowired
     private CourseRepository courseRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private WaitlistPromoter waitlistPromoter;
+
+    @Autowired
+    private ViewVersions viewVersions;
+
+    @Transactional(readOnly = true)
     public List<Course> getAllCourses() {
         return courseRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public Window<Course> getCoursePage(String cursor, String sortProperty, String direction, Integer size) {
+        Sort sort = KeysetCursor.sort(sortProperty, direction, SORTABLE_PROPERTIES);
+        return courseRepository.findBy(KeysetCursor.decode(cursor, sort), sort, Limit.of(KeysetCursor.size(size)));
+    }
+
+    /** Next chunk of a streamed list page; detaches the previous chunk first. */
+    @Transactional(readOnly = true)
+    public Window<Course> getCourseChunk(ScrollPosition position, String sortProperty, String direction) {
+        entityManager.clear();
+        Sort sort = KeysetCursor.sort(sortProperty, direction, SORTABLE_PROPERTIES);
+        return courseRepository.findBy(position, sort, Limit.of(KeysetCursor.CHUNK_SIZE));
+    }
+
+    @Transactional(readOnly = true)
+    public Window<CourseSummary> getCourseSummaryPage(String cursor, String sortProperty, String direction, Integer size) {
+        Sort sort = KeysetCursor.sort(sortProperty, direction, SORTABLE_PROPERTIES);
+        return courseRepository.findSummariesBy(KeysetCursor.decode(cursor, sort), sort, Limit.of(KeysetCursor.size(size)));
+    }
+
+    @Transactional(readOnly = true)
+    public Window<CourseSummary> getCourseSummaryChunk(ScrollPosition position, String sortProperty, String direction) {
+        Sort sort = KeysetCursor.sort(sortProperty, direction, SORTABLE_PROPERTIES);
+        return courseRepository.findSummariesBy(position, sort, Limit.of(KeysetCursor.CHUNK_SIZE));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<CourseSummary> getCourseSummary(Long id) {
+        return courseRepository.findSummaryById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public Window<Map<String, Object>> getCourseFieldsPage(SparseFields.Selection selection, String cursor,
+                                                           String sortProperty, String direction, Integer size) {
+        Sort sort = KeysetCursor.sort(sortProperty, direction, SORTABLE_PROPERTIES);
+        return courseRepository.findSparse(selection, KeysetCursor.decode(cursor, sort), sort, KeysetCursor.size(size));
+    }
+
+    @Transactional(readOnly = true)
+    public Window<Map<String, Object>> getCourseFieldsChunk(SparseFields.Selection selection, ScrollPosition position,
+                                                            String sortProperty, String direction) {
+        Sort sort = KeysetCursor.sort(sortProperty, direction, SORTABLE_PROPERTIES);
+        return courseRepository.findSparse(selection, position, sort, KeysetCursor.CHUNK_SIZE);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Map<String, Object>> getCourseFields(SparseFields.Selection selection, Long id) {
+        return courseRepository.findSparseById(selection, id);
+    }
+
+    @Transactional(readOnly = true)
     public Optional<Course> getCourseById(Long id) {
         return courseRepository.findById(id);
     }
 
+    /** Version fingerprint of the course page, or empty if the course does not exist. */
+    @Transactional(readOnly = true)
+    public Optional<String> getViewVersion(Long id) {
+        return courseRepository.findViewVersionById(id);
+    }
+
     public Course saveCourse(Course course) {
-        return courseRepository.save(course);
+        boolean existing = course.getId() != null;
+        Course saved = courseRepository.save(course);
+        if (existing) {
+            // Enrolled and waiting students see the course's code and name
+            viewVersions.touchCourseStudents(saved.getId());
+        }
+        seatService.resize(saved.getId(), saved.getCapacity());
+        // A raised capacity opens seats for the waitlist
+        waitlistPromoter.schedule(saved.getId());
+        return saved;
     }
 
     public void deleteCourse(Long id) {
         courseRepository.deleteById(id);
     }
 
+    @Transactional(readOnly = true)
     public List<Course> getCoursesByDepartment(Long departmentId) {
         return courseRepository.findByDepartmentId(departmentId);
     }
 
+    @Transactional(readOnly = true)
     public List<Course> getCoursesByTeacher(Long teacherId) {
         return courseRepository.findByTeacherId(teacherId);
     }
@@ -1,29 +1,90 @@
 package com.sheikhgalib.store.service;
 
+import com.sheikhgalib.store.dto.DepartmentSummary;
 import com.sheikhgalib.store.entity.Department;
+import com.sheikhgalib.store.pagination.KeysetCursor;
 import com.sheikhgalib.store.repository.DepartmentRepository;
+import com.sheikhgalib.store.repository.SparseFields;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
 public class DepartmentService {
 
+    /** Fields and expansions the JSON API can select on departments. */
+    public static final SparseFields API_FIELDS = new SparseFields(Department.class)
+            .fields("id", "name", "description");
+
+    public static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "name");
+
     @Autowired
     private DepartmentRepository departmentRepository;
 
+    @Transactional(readOnly = true)
     public List<Department> getAllDepartments() {
         return departmentRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public Optional<Department> getDepartmentById(Long id) {
         return departmentRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
+    public Window<DepartmentSummary> getDepartmentSummaryPage(String cursor, String sortProperty, String direction,
+                                                              Integer size) {
+        Sort sort = KeysetCursor.sort(sortProperty, direction, SORTABLE_PROPERTIES);
+        return departmentRepository.findSummariesBy(KeysetCursor.decode(cursor, sort), sort, Limit.of(KeysetCursor.size(size)));
+    }
+
+    @Transactional(readOnly = true)
+    public Window<DepartmentSummary> getDepartmentSummaryChunk(ScrollPosition position, String sortProperty,
+                                                               String direction) {
+        Sort sort = KeysetCursor.sort(sortProperty, direction, SORTABLE_PROPERTIES);
+        return departmentRepository.findSummariesBy(position, sort, Limit.of(KeysetCursor.CHUNK_SIZE));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<DepartmentSummary> getDepartmentSummary(Long id) {
+        return departmentRepository.findSummaryById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public Window<Map<String, Object>> getDepartmentFieldsPage(SparseFields.Selection selection, String cursor,
+                                                               String sortProperty, String direction, Integer size) {
+        Sort sort = KeysetCursor.sort(sortProperty, direction, SORTABLE_PROPERTIES);
+        return departmentRepository.findSparse(selection, KeysetCursor.decode(cursor, sort), sort, KeysetCursor.size(size));
+    }
+
+    @Transactional(readOnly = true)
+    public Window<Map<String, Object>> getDepartmentFieldsChunk(SparseFields.Selection selection, ScrollPosition position,
+                                                                String sortProperty, String direction) {
+        Sort sort = KeysetCursor.sort(sortProperty, direction, SORTABLE_PROPERTIES);
+        return departmentRepository.findSparse(selection, position, sort, KeysetCursor.CHUNK_SIZE);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Map<String, Object>> getDepartmentFields(SparseFields.Selection selection, Long id) {
+        return departmentRepository.findSparseById(selection, id);
+    }
+
+    /** Version fingerprint of the department page, or empty if the department does not exist. */
+    @Transactional(readOnly = true)
+    public Optional<String> getViewVersion(Long id) {
+        return departmentRepository.findViewVersionById(id);
+    }
+
     public Department saveDepartment(Department department) {
         return departmentRepository.save(department);
     }
@@ -0,0 +1,227 @@
+package com.sheikhgalib.store.service;
+
+import com.sheikhgalib.store.dto.BulkEnrollmentResult;
+import com.sheikhgalib.store.dto.EnrollmentOutcome;
+import com.sheikhgalib.store.dto.EnrollmentSummary;
+import com.sheikhgalib.store.entity.Enrollment;
+import com.sheikhgalib.store.entity.EnrollmentId;
+import com.sheikhgalib.store.entity.EnrollmentStatus;
+import com.sheikhgalib.store.pagination.KeysetCursor;
+import com.sheikhgalib.store.repository.CourseRepository;
+import com.sheikhgalib.store.repository.EnrollmentRepository;
+import com.sheikhgalib.store.repository.StudentRepository;
+import com.sheikhgalib.store.repository.WaitlistRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Adds and removes single enrollments. Students and courses are referenced by
+ * id without being loaded, so enrolling is one INSERT and unenrolling one
+ * DELETE, plus a primary-key lookup to skip duplicates and a seat reservation
+ * through {@link SeatService}. Bulk enrollment runs as set-based
+ * INSERT ... SELECT statements in one transaction, capped at the free seats.
+ * While a course has a waitlist nobody enrolls directly: freed seats are kept
+ * for {@link WaitlistPromoter}, so the queue stays first come, first served.
+ */
+@Service
+@Transactional
+public class EnrollmentService {
+
+    /** Keeps IN lists well below the bind-parameter limits of the supported databases. */
+    static final int BULK_CHUNK_SIZE = 1000;
+
+    /** Enrollment pages seek on the other side's id; cursors carry it under "id" like the entity lists. */
+    private static final Sort SEEK_SORT = Sort.by("id");
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private WaitlistRepository waitlistRepository;
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private WaitlistPromoter waitlistPromoter;
+
+    @Autowired
+    private ViewVersions viewVersions;
+
+    public EnrollmentOutcome enroll(Long studentId, Long courseId) {
+        if (enrollmentRepository.existsById(new EnrollmentId(studentId, courseId))) {
+            return EnrollmentOutcome.ALREADY_ENROLLED;
+        }
+        if (waitlistRepository.existsByCourseId(courseId) || !seatService.reserve(courseId)) {
+            return EnrollmentOutcome.COURSE_FULL;
+        }
+        enrollmentRepository.save(new Enrollment(studentRepository.getReferenceById(studentId),
+                courseRepository.getReferenceById(courseId), LocalDateTime.now()));
+        viewVersions.touchStudent(studentId);
+        viewVersions.touchCourse(courseId);
+        return EnrollmentOutcome.ENROLLED;
+    }
+
+    /**
+     * Enrolls the given students, skipping ids that are unknown or already
+     * enrolled. The course's seats stay locked until the transaction ends.
+     */
+    public BulkEnrollmentResult enrollStudents(Long courseId, Collection<Long> studentIds) {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(studentIds));
+        long found = 0;
+        long already = 0;
+        long enrolled = 0;
+        for (int from = 0; from < distinctIds.size(); from += BULK_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, distinctIds.size()));
+            found += studentRepository.countByIdIn(chunk);
+            already += enrollmentRepository.countByIdCourseIdAndIdStudentIdIn(courseId, chunk);
+            Long freeSeats = lockFreeSeats(courseId);
+            if (freeSeats == null || freeSeats > 0) {
+                int inserted = enrollmentRepository.insertForStudents(courseId, chunk, now, freeSeats);
+                takeSeats(courseId, freeSeats, inserted);
+                if (inserted > 0) {
+                    viewVersions.touchStudents(chunk);
+                }
+                enrolled += inserted;
+            }
+        }
+        if (enrolled > 0) {
+            viewVersions.touchCourse(courseId);
+        }
+        return new BulkEnrollmentResult(distinctIds.size(), enrolled, already, found - already - enrolled,
+                distinctIds.size() - found, elapsedMillis(start));
+    }
+
+    /** Enrolls every student of the department who is not already on the course. */
+    public BulkEnrollmentResult enrollDepartment(Long courseId, Long departmentId) {
+        long start = System.nanoTime();
+        long requested = studentRepository.countByDepartmentId(departmentId);
+        long already = enrollmentRepository.countByIdCourseIdAndStudentDepartmentId(courseId, departmentId);
+        Long freeSeats = lockFreeSeats(courseId);
+        long enrolled = 0;
+        if (freeSeats == null || freeSeats > 0) {
+            enrolled = enrollmentRepository.insertForDepartment(courseId, departmentId, LocalDateTime.now(), freeSeats);
+            takeSeats(courseId, freeSeats, enrolled);
+        }
+        if (enrolled > 0) {
+            viewVersions.touchDepartmentStudents(departmentId);
+            viewVersions.touchCourse(courseId);
+        }
+        return new BulkEnrollmentResult(requested, enrolled, already, requested - already - enrolled, 0,
+                elapsedMillis(start));
+    }
+
+    /**
+     * Returns {@code true} if an enrollment was removed. Its seat is released
+     * and the course's waitlist is promoted after commit.
+     */
+    public boolean unenroll(Long studentId, Long courseId) {
+        if (enrollmentRepository.deleteDirectlyById(new EnrollmentId(studentId, courseId)) == 0) {
+            return false;
+        }
+        seatService.release(courseId);
+        viewVersions.touchStudent(studentId);
+        viewVersions.touchCourse(courseId);
+        waitlistPromoter.schedule(courseId);
+        return true;
+    }
+
+    /** Returns {@code true} if the enrollment exists and was updated. */
+    public boolean updateStatus(Long studentId, Long courseId, EnrollmentStatus status) {
+        if (enrollmentRepository.updateStatus(new EnrollmentId(studentId, courseId), status) == 0) {
+            return false;
+        }
+        viewVersions.touchStudent(studentId);
+        viewVersions.touchCourse(courseId);
+        return true;
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isEnrolled(Long studentId, Long courseId) {
+        return enrollmentRepository.existsById(new EnrollmentId(studentId, courseId));
+    }
+
+    @Transactional(readOnly = true)
+    public long countEnrollments(Long courseId) {
+        return enrollmentRepository.countByIdCourseId(courseId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Enrollment> getEnrollmentsForStudent(Long studentId) {
+        return enrollmentRepository.findByStudentIdWithCourse(studentId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Enrollment> getEnrollmentsForCourse(Long courseId) {
+        return enrollmentRepository.findByCourseIdWithStudent(courseId);
+    }
+
+    /** One page of a student's enrollments, in course id order. */
+    @Transactional(readOnly = true)
+    public Window<EnrollmentSummary> getStudentEnrollmentPage(Long studentId, String cursor, Integer size) {
+        return seek(cursor, size, EnrollmentSummary::getCourseId,
+                (after, limit) -> enrollmentRepository.findSummariesByStudentId(studentId, after, limit));
+    }
+
+    /** One page of a course's enrollments, in student id order. */
+    @Transactional(readOnly = true)
+    public Window<EnrollmentSummary> getCourseEnrollmentPage(Long courseId, String cursor, Integer size) {
+        return seek(cursor, size, EnrollmentSummary::getStudentId,
+                (after, limit) -> enrollmentRepository.findSummariesByCourseId(courseId, after, limit));
+    }
+
+    private static Window<EnrollmentSummary> seek(String cursor, Integer size, Function<EnrollmentSummary, Long> key,
+                                                  BiFunction<Long, Limit, List<EnrollmentSummary>> query) {
+        long after = KeysetCursor.decode(cursor, SEEK_SORT) instanceof KeysetScrollPosition keyset
+                && keyset.getKeys().get("id") instanceof Long id ? id : 0;
+        int pageSize = KeysetCursor.size(size);
+        // One extra row tells whether there is a next page
+        List<EnrollmentSummary> rows = query.apply(after, Limit.of(pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<EnrollmentSummary> content = hasNext ? rows.subList(0, pageSize) : rows;
+        return Window.from(content, i -> ScrollPosition.forward(Map.of("id", key.apply(content.get(i)))), hasNext);
+    }
+
+    /** Locks the course's seats until commit; none are free to newcomers while students are waiting. */
+    private Long lockFreeSeats(Long courseId) {
+        Long freeSeats = seatService.lockFreeSeats(courseId);
+        if (freeSeats != null && freeSeats > 0 && waitlistRepository.existsByCourseId(courseId)) {
+            return 0L;
+        }
+        return freeSeats;
+    }
+
+    private void takeSeats(Long courseId, Long freeSeats, long inserted) {
+        if (freeSeats != null && inserted > 0) {
+            seatService.takeLocked(courseId, inserted);
+        }
+    }
+
+    private static long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
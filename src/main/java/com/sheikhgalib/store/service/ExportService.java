@@ -0,0 +1,156 @@
+package com.sheikhgalib.store.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.sheikhgalib.store.csv.CsvWriter;
+import com.sheikhgalib.store.entity.Course;
+import com.sheikhgalib.store.entity.Department;
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.entity.Teacher;
+import com.sheikhgalib.store.repository.CourseRepository;
+import com.sheikhgalib.store.repository.StudentRepository;
+import com.sheikhgalib.store.repository.TeacherRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Streams whole tables to an output stream. Rows are read through a
+ * forward-only JDBC cursor and the persistence context is cleared every
+ * {@link #CLEAR_INTERVAL} rows, so heap use stays flat regardless of table size.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportService {
+
+    static final int CLEAR_INTERVAL = 1000;
+
+    private static final List<String> STUDENT_COLUMNS =
+            List.of("id", "firstName", "lastName", "email", "studentId", "phone", "department");
+    private static final List<String> TEACHER_COLUMNS =
+            List.of("id", "firstName", "lastName", "email", "employeeId", "phone", "department");
+    private static final List<String> COURSE_COLUMNS =
+            List.of("id", "courseCode", "name", "description", "credits", "department", "teacher");
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public void exportStudents(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Student> students = studentRepository.streamAllByOrderByIdAsc()) {
+            write(students, STUDENT_COLUMNS, student -> Arrays.asList(
+                    student.getId(),
+                    student.getFirstName(),
+                    student.getLastName(),
+                    student.getEmail(),
+                    student.getStudentId(),
+                    student.getPhone(),
+                    departmentName(student.getDepartment())), format, out);
+        }
+    }
+
+    public void exportTeachers(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Teacher> teachers = teacherRepository.streamAllByOrderByIdAsc()) {
+            write(teachers, TEACHER_COLUMNS, teacher -> Arrays.asList(
+                    teacher.getId(),
+                    teacher.getFirstName(),
+                    teacher.getLastName(),
+                    teacher.getEmail(),
+                    teacher.getEmployeeId(),
+                    teacher.getPhone(),
+                    departmentName(teacher.getDepartment())), format, out);
+        }
+    }
+
+    public void exportCourses(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Course> courses = courseRepository.streamAllByOrderByIdAsc()) {
+            write(courses, COURSE_COLUMNS, course -> Arrays.asList(
+                    course.getId(),
+                    course.getCourseCode(),
+                    course.getName(),
+                    course.getDescription(),
+                    course.getCredits(),
+                    departmentName(course.getDepartment()),
+                    course.getTeacher() == null ? null
+                            : course.getTeacher().getFirstName() + " " + course.getTeacher().getLastName()), format, out);
+        }
+    }
+
+    private <T> void write(Stream<T> rows, List<String> columns, Function<T, List<Object>> values,
+                           ExportFormat format, OutputStream out) throws IOException {
+        Iterator<T> iterator = rows.iterator();
+        if (format == ExportFormat.CSV) {
+            CsvWriter csv = new CsvWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+            csv.writeRecord(columns);
+            for (int count = 1; iterator.hasNext(); count++) {
+                csv.writeRecord(values.apply(iterator.next()));
+                clearPeriodically(count);
+            }
+            csv.flush();
+        } else {
+            JsonGenerator json = jsonFactory.createGenerator(out, JsonEncoding.UTF8);
+            json.setRootValueSeparator(new SerializedString("\n"));
+            int count = 0;
+            while (iterator.hasNext()) {
+                writeJsonObject(json, columns, values.apply(iterator.next()));
+                clearPeriodically(++count);
+            }
+            if (count > 0) {
+                json.writeRaw('\n');
+            }
+            json.flush();
+        }
+    }
+
+    private void writeJsonObject(JsonGenerator json, List<String> columns, List<Object> values) throws IOException {
+        json.writeStartObject();
+        for (int i = 0; i < columns.size(); i++) {
+            Object value = values.get(i);
+            if (value == null) {
+                json.writeNullField(columns.get(i));
+            } else if (value instanceof Long number) {
+                json.writeNumberField(columns.get(i), number);
+            } else if (value instanceof Integer number) {
+                json.writeNumberField(columns.get(i), number);
+            } else {
+                json.writeStringField(columns.get(i), value.toString());
+            }
+        }
+        json.writeEndObject();
+    }
+
+    private void clearPeriodically(int count) {
+        if (count % CLEAR_INTERVAL == 0) {
+            entityManager.clear();
+        }
+    }
+
+    private static String departmentName(Department department) {
+        return department == null ? null : department.getName();
+    }
+}
@@ -0,0 +1,165 @@
+package com.sheikhgalib.store.service;
+
+import com.sheikhgalib.store.entity.Course;
+import com.sheikhgalib.store.entity.SeatStripe;
+import com.sheikhgalib.store.entity.SeatStripeId;
+import com.sheikhgalib.store.repository.CourseRepository;
+import com.sheikhgalib.store.repository.EnrollmentRepository;
+import com.sheikhgalib.store.repository.SeatStripeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Seat accounting for courses with a capacity. The capacity is split across
+ * up to {@code store.enrollment.seat-stripes} rows and a reservation is a
+ * conditional {@code UPDATE ... WHERE taken < seats} on one of them, starting
+ * at a random stripe, so parallel enrollers rarely wait on the same row lock
+ * and the database itself rules out overbooking. Courses without a capacity
+ * have no stripes. The capacity is read from the database rather than the
+ * cached {@link Course}, which may predate a change made on another instance.
+ * <p>
+ * Every method joins the caller's transaction, so a reserved seat is rolled
+ * back together with a failed enrollment insert.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class SeatService {
+
+    @Autowired
+    private SeatStripeRepository seatStripeRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${store.enrollment.seat-stripes:8}")
+    private int stripeCount = 8;
+
+    /** Takes one seat; returns {@code false} only if the course is full. */
+    public boolean reserve(Long courseId) {
+        if (!hasCapacity(courseId)) {
+            return true;
+        }
+        int first = ThreadLocalRandom.current().nextInt(stripeCount);
+        if (seatStripeRepository.takeSeat(new SeatStripeId(courseId, first)) > 0) {
+            return true;
+        }
+        List<Integer> candidates;
+        while (!(candidates = seatStripeRepository.findStripesWithFreeSeats(courseId)).isEmpty()) {
+            Collections.shuffle(candidates, ThreadLocalRandom.current());
+            for (Integer stripe : candidates) {
+                if (seatStripeRepository.takeSeat(new SeatStripeId(courseId, stripe)) > 0) {
+                    return true;
+                }
+            }
+        }
+        if (!seatStripeRepository.existsByIdCourseId(courseId)) {
+            throw missingStripes(courseId);
+        }
+        return false;
+    }
+
+    /** Gives back one seat, if the course tracks seats at all. */
+    public void release(Long courseId) {
+        if (!hasCapacity(courseId)) {
+            return;
+        }
+        int first = ThreadLocalRandom.current().nextInt(stripeCount);
+        if (seatStripeRepository.releaseSeat(new SeatStripeId(courseId, first)) > 0) {
+            return;
+        }
+        List<Integer> candidates;
+        while (!(candidates = seatStripeRepository.findStripesWithTakenSeats(courseId)).isEmpty()) {
+            for (Integer stripe : candidates) {
+                if (seatStripeRepository.releaseSeat(new SeatStripeId(courseId, stripe)) > 0) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Locks all stripes of the course for the rest of the transaction and
+     * returns the number of free seats, or {@code null} if the course has no
+     * capacity. Pair with {@link #takeLocked(Long, long)} for bulk enrollment.
+     */
+    public Long lockFreeSeats(Long courseId) {
+        if (!hasCapacity(courseId)) {
+            return null;
+        }
+        List<SeatStripe> stripes = seatStripeRepository.findByCourseIdForUpdate(courseId);
+        if (stripes.isEmpty()) {
+            throw missingStripes(courseId);
+        }
+        return stripes.stream().mapToLong(SeatStripe::getFree).sum();
+    }
+
+    /** Marks {@code seats} seats as taken on stripes locked by {@link #lockFreeSeats(Long)}. */
+    public void takeLocked(Long courseId, long seats) {
+        long remaining = seats;
+        for (SeatStripe stripe : seatStripeRepository.findByCourseIdForUpdate(courseId)) {
+            int taken = (int) Math.min(stripe.getFree(), remaining);
+            stripe.setTaken(stripe.getTaken() + taken);
+            remaining -= taken;
+        }
+        if (remaining > 0) {
+            throw new IllegalStateException("Not enough free seats on course " + courseId);
+        }
+    }
+
+    /**
+     * Rebuilds the stripes if the capacity changed. Seats already taken are
+     * counted from the enrollments table, so switching an unlimited course to
+     * a capacity starts from its real enrollment count.
+     */
+    public void resize(Long courseId, Integer capacity) {
+        Long current = seatStripeRepository.sumSeats(courseId);
+        if (capacity == null ? current == null : current != null && current == capacity.longValue()) {
+            return;
+        }
+        List<SeatStripe> existing = seatStripeRepository.findByCourseIdForUpdate(courseId);
+        seatStripeRepository.deleteAll(existing);
+        seatStripeRepository.flush();
+        if (capacity == null) {
+            return;
+        }
+
+        long taken = enrollmentRepository.countByIdCourseId(courseId);
+        int count = Math.max(1, Math.min(stripeCount, capacity));
+        List<SeatStripe> stripes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int seats = capacity / count + (i < capacity % count ? 1 : 0);
+            // Any overbooking from a lowered capacity stays on the last stripe
+            int stripeTaken = (int) (i == count - 1 ? taken : Math.min(seats, taken));
+            taken -= stripeTaken;
+            stripes.add(new SeatStripe(courseRepository.getReferenceById(courseId), i, seats, stripeTaken));
+        }
+        seatStripeRepository.saveAll(stripes);
+        seatStripeRepository.flush();
+        // Reservations update stripes with bulk UPDATEs, which would leave managed copies stale
+        stripes.forEach(entityManager::detach);
+    }
+
+    private boolean hasCapacity(Long courseId) {
+        return courseRepository.findCapacityById(courseId).isPresent();
+    }
+
+    private static IllegalStateException missingStripes(Long courseId) {
+        return new IllegalStateException("Course " + courseId + " has a capacity but no seat stripes");
+    }
+}
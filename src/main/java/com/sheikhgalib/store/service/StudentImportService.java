@@ -0,0 +1,209 @@
+package com.sheikhgalib.store.service;
+
+import com.sheikhgalib.store.csv.CsvFormatException;
+import com.sheikhgalib.store.csv.CsvReader;
+import com.sheikhgalib.store.dto.StudentCsvRow;
+import com.sheikhgalib.store.dto.StudentImportResult;
+import com.sheikhgalib.store.entity.Department;
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.repository.DepartmentRepository;
+import com.sheikhgalib.store.repository.StudentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports students from CSV. Rows are read one chunk at a time, validated in
+ * parallel and each chunk is committed in its own transaction, so memory use
+ * does not depend on the size of the file.
+ */
+@Service
+public class StudentImportService {
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private Validator validator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate chunkTransaction;
+
+    @Value("${store.import.chunk-size:500}")
+    private int chunkSize = 500;
+
+    public StudentImportService(PlatformTransactionManager transactionManager) {
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public StudentImportResult importStudents(Reader source) throws IOException {
+        StudentImportResult result = new StudentImportResult(MAX_REPORTED_ERRORS);
+        CsvReader csv = new CsvReader(source);
+
+        List<String> header;
+        try {
+            header = csv.readRecord();
+        } catch (CsvFormatException e) {
+            result.reject(e.getLine(), e.getMessage());
+            return result;
+        }
+        if (header == null) {
+            result.reject(1, "File is empty");
+            return result;
+        }
+        StudentCsvRow.Columns columns;
+        try {
+            columns = StudentCsvRow.Columns.fromHeader(header);
+        } catch (IllegalArgumentException e) {
+            result.reject(csv.getRecordLine(), e.getMessage());
+            return result;
+        }
+
+        Map<String, Long> departmentIds = loadDepartmentIds();
+        List<StudentCsvRow> chunk = new ArrayList<>(chunkSize);
+        CsvFormatException malformed = null;
+        try {
+            List<String> record;
+            while ((record = csv.readRecord()) != null) {
+                chunk.add(columns.toRow(csv.getRecordLine(), record));
+                if (chunk.size() >= chunkSize) {
+                    importChunk(chunk, departmentIds, result);
+                    chunk.clear();
+                }
+            }
+        } catch (CsvFormatException e) {
+            // Nothing after a malformed record can be split into rows reliably; keep the rows before it
+            malformed = e;
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, departmentIds, result);
+        }
+        if (malformed != null) {
+            result.rowsRead(1);
+            result.reject(malformed.getLine(), malformed.getMessage());
+        }
+        return result;
+    }
+
+    private Map<String, Long> loadDepartmentIds() {
+        Map<String, Long> ids = new HashMap<>();
+        for (Department department : departmentRepository.findAll()) {
+            ids.put(department.getName().toLowerCase(Locale.ROOT), department.getId());
+        }
+        return ids;
+    }
+
+    private void importChunk(List<StudentCsvRow> rows, Map<String, Long> departmentIds, StudentImportResult result) {
+        result.rowsRead(rows.size());
+
+        Map<StudentCsvRow, String> invalid = rows.parallelStream()
+                .map(row -> Map.entry(row, validate(row, departmentIds)))
+                .filter(entry -> !entry.getValue().isEmpty())
+                .collect(Collectors.toConcurrentMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        Set<String> emails = rows.stream()
+                .filter(row -> !invalid.containsKey(row))
+                .map(StudentCsvRow::email)
+                .collect(Collectors.toSet());
+        Set<String> studentIds = rows.stream()
+                .filter(row -> !invalid.containsKey(row) && row.studentId() != null)
+                .map(StudentCsvRow::studentId)
+                .collect(Collectors.toSet());
+        Set<String> takenEmails = emails.isEmpty() ? new HashSet<>() : new HashSet<>(studentRepository.findExistingEmails(emails));
+        Set<String> takenStudentIds = studentIds.isEmpty() ? new HashSet<>() : new HashSet<>(studentRepository.findExistingStudentIds(studentIds));
+
+        List<StudentCsvRow> accepted = new ArrayList<>(rows.size());
+        for (StudentCsvRow row : rows) {
+            String error = invalid.get(row);
+            if (error == null && !takenEmails.add(row.email())) {
+                error = "Duplicate email: " + row.email();
+            }
+            if (error == null && row.studentId() != null && !takenStudentIds.add(row.studentId())) {
+                error = "Duplicate student ID: " + row.studentId();
+            }
+            if (error != null) {
+                result.reject(row.line(), error);
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            persist(accepted, departmentIds);
+            result.imported(accepted.size());
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent writer took one of the keys; fall back to row-by-row to isolate it
+            for (StudentCsvRow row : accepted) {
+                try {
+                    persist(List.of(row), departmentIds);
+                    result.imported(1);
+                } catch (DataIntegrityViolationException rowFailure) {
+                    result.reject(row.line(), "Duplicate email or student ID");
+                }
+            }
+        }
+    }
+
+    private String validate(StudentCsvRow row, Map<String, Long> departmentIds) {
+        List<String> messages = validator.validate(row).stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (row.department() != null && !departmentIds.containsKey(row.department().toLowerCase(Locale.ROOT))) {
+            messages.add("Unknown department: " + row.department());
+        }
+        return String.join("; ", messages);
+    }
+
+    private void persist(List<StudentCsvRow> rows, Map<String, Long> departmentIds) {
+        chunkTransaction.executeWithoutResult(status -> {
+            List<Student> students = new ArrayList<>(rows.size());
+            for (StudentCsvRow row : rows) {
+                Student student = new Student();
+                student.setFirstName(row.firstName());
+                student.setLastName(row.lastName());
+                student.setEmail(row.email());
+                student.setStudentId(row.studentId());
+                student.setPhone(row.phone());
+                if (row.department() != null) {
+                    Long departmentId = departmentIds.get(row.department().toLowerCase(Locale.ROOT));
+                    student.setDepartment(departmentRepository.getReferenceById(departmentId));
+                }
+                students.add(student);
+            }
+            // Through the repository, so a constraint violation is translated to DataIntegrityViolationException
+            studentRepository.saveAllAndFlush(students);
+            entityManager.clear();
+        });
+    }
+}
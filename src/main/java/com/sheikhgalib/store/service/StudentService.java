@@ -1,37 +1,122 @@
 package com.sheikhgalib.store.service;
 
+import com.sheikhgalib.store.dto.StudentSummary;
 import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.pagination.KeysetCursor;
 import com.sheikhgalib.store.repository.StudentRepository;
+import com.sheikhgalib.store.repository.SparseFields;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
 public class StudentService {
 
+    /** Fields and expansions the JSON API can select on students. */
+    public static final SparseFields API_FIELDS = new SparseFields(Student.class)
+            .fields("id", "firstName", "lastName", "email", "studentId", "phone")
+            .field("departmentId", "department.id")
+            .expansion("department", "id", "name");
+
+    public static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "lastName", "email");
+
     @Autowired
     private StudentRepository studentRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
     public List<Student> getAllStudents() {
         return studentRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public Window<Student> getStudentPage(String cursor, String sortProperty, String direction, Integer size) {
+        Sort sort = KeysetCursor.sort(sortProperty, direction, SORTABLE_PROPERTIES);
+        return studentRepository.findBy(KeysetCursor.decode(cursor, sort), sort, Limit.of(KeysetCursor.size(size)));
+    }
+
+    /** Next chunk of a streamed list page; detaches the previous chunk first. */
+    @Transactional(readOnly = true)
+    public Window<Student> getStudentChunk(ScrollPosition position, String sortProperty, String direction) {
+        entityManager.clear();
+        Sort sort = KeysetCursor.sort(sortProperty, direction, SORTABLE_PROPERTIES);
+        return studentRepository.findBy(position, sort, Limit.of(KeysetCursor.CHUNK_SIZE));
+    }
+
+    @Transactional(readOnly = true)
+    public Window<StudentSummary> getStudentSummaryPage(String cursor, String sortProperty, String direction, Integer size) {
+        Sort sort = KeysetCursor.sort(sortProperty, direction, SORTABLE_PROPERTIES);
+        return studentRepository.findSummariesBy(KeysetCursor.decode(cursor, sort), sort, Limit.of(KeysetCursor.size(size)));
+    }
+
+    @Transactional(readOnly = true)
+    public Window<StudentSummary> getStudentSummaryChunk(ScrollPosition position, String sortProperty, String direction) {
+        Sort sort = KeysetCursor.sort(sortProperty, direction, SORTABLE_PROPERTIES);
+        return studentRepository.findSummariesBy(position, sort, Limit.of(KeysetCursor.CHUNK_SIZE));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<StudentSummary> getStudentSummary(Long id) {
+        return studentRepository.findSummaryById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public Window<Map<String, Object>> getStudentFieldsPage(SparseFields.Selection selection, String cursor,
+                                                            String sortProperty, String direction, Integer size) {
+        Sort sort = KeysetCursor.sort(sortProperty, direction, SORTABLE_PROPERTIES);
+        return studentRepository.findSparse(selection, KeysetCursor.decode(cursor, sort), sort, KeysetCursor.size(size));
+    }
+
+    @Transactional(readOnly = true)
+    public Window<Map<String, Object>> getStudentFieldsChunk(SparseFields.Selection selection, ScrollPosition position,
+                                                             String sortProperty, String direction) {
+        Sort sort = KeysetCursor.sort(sortProperty, direction, SORTABLE_PROPERTIES);
+        return studentRepository.findSparse(selection, position, sort, KeysetCursor.CHUNK_SIZE);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Map<String, Object>> getStudentFields(SparseFields.Selection selection, Long id) {
+        return studentRepository.findSparseById(selection, id);
+    }
+
+    @Transactional(readOnly = true)
     public Optional<Student> getStudentById(Long id) {
         return studentRepository.findById(id);
     }
 
+    /** Version fingerprint of the student page, or empty if the student does not exist. */
+    @Transactional(readOnly = true)
+    public Optional<String> getViewVersion(Long id) {
+        return studentRepository.findViewVersionById(id);
+    }
+
     public Student saveStudent(Student student) {
         return studentRepository.save(student);
     }
 
+    public List<Student> saveAllStudents(List<Student> students) {
+        return studentRepository.saveAll(students);
+    }
+
     public void deleteStudent(Long id) {
         studentRepository.deleteById(id);
     }
 
+    @Transactional(readOnly = true)
     public List<Student> getStudentsByDepartment(Long departmentId) {
         return studentRepository.findByDepartmentId(departmentId);
     }
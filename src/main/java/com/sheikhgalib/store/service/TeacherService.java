@@ -1,29 +1,109 @@
 package com.sheikhgalib.store.service;
 
+import com.sheikhgalib.store.dto.TeacherSummary;
 import com.sheikhgalib.store.entity.Teacher;
+import com.sheikhgalib.store.pagination.KeysetCursor;
 import com.sheikhgalib.store.repository.TeacherRepository;
+import com.sheikhgalib.store.repository.SparseFields;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
 public class TeacherService {
 
+    /** Fields and expansions the JSON API can select on teachers. */
+    public static final SparseFields API_FIELDS = new SparseFields(Teacher.class)
+            .fields("id", "firstName", "lastName", "email", "employeeId", "phone")
+            .field("departmentId", "department.id")
+            .expansion("department", "id", "name");
+
+    public static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "lastName", "email");
+
     @Autowired
     private TeacherRepository teacherRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
     public List<Teacher> getAllTeachers() {
         return teacherRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public Window<Teacher> getTeacherPage(String cursor, String sortProperty, String direction, Integer size) {
+        Sort sort = KeysetCursor.sort(sortProperty, direction, SORTABLE_PROPERTIES);
+        return teacherRepository.findBy(KeysetCursor.decode(cursor, sort), sort, Limit.of(KeysetCursor.size(size)));
+    }
+
+    /** Next chunk of a streamed list page; detaches the previous chunk first. */
+    @Transactional(readOnly = true)
+    public Window<Teacher> getTeacherChunk(ScrollPosition position, String sortProperty, String direction) {
+        entityManager.clear();
+        Sort sort = KeysetCursor.sort(sortProperty, direction, SORTABLE_PROPERTIES);
+        return teacherRepository.findBy(position, sort, Limit.of(KeysetCursor.CHUNK_SIZE));
+    }
+
+    @Transactional(readOnly = true)
+    public Window<TeacherSummary> getTeacherSummaryPage(String cursor, String sortProperty, String direction, Integer size) {
+        Sort sort = KeysetCursor.sort(sortProperty, direction, SORTABLE_PROPERTIES);
+        return teacherRepository.findSummariesBy(KeysetCursor.decode(cursor, sort), sort, Limit.of(KeysetCursor.size(size)));
+    }
+
+    @Transactional(readOnly = true)
+    public Window<TeacherSummary> getTeacherSummaryChunk(ScrollPosition position, String sortProperty, String direction) {
+        Sort sort = KeysetCursor.sort(sortProperty, direction, SORTABLE_PROPERTIES);
+        return teacherRepository.findSummariesBy(position, sort, Limit.of(KeysetCursor.CHUNK_SIZE));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<TeacherSummary> getTeacherSummary(Long id) {
+        return teacherRepository.findSummaryById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public Window<Map<String, Object>> getTeacherFieldsPage(SparseFields.Selection selection, String cursor,
+                                                            String sortProperty, String direction, Integer size) {
+        Sort sort = KeysetCursor.sort(sortProperty, direction, SORTABLE_PROPERTIES);
+        return teacherRepository.findSparse(selection, KeysetCursor.decode(cursor, sort), sort, KeysetCursor.size(size));
+    }
+
+    @Transactional(readOnly = true)
+    public Window<Map<String, Object>> getTeacherFieldsChunk(SparseFields.Selection selection, ScrollPosition position,
+                                                             String sortProperty, String direction) {
+        Sort sort = KeysetCursor.sort(sortProperty, direction, SORTABLE_PROPERTIES);
+        return teacherRepository.findSparse(selection, position, sort, KeysetCursor.CHUNK_SIZE);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Map<String, Object>> getTeacherFields(SparseFields.Selection selection, Long id) {
+        return teacherRepository.findSparseById(selection, id);
+    }
+
+    @Transactional(readOnly = true)
     public Optional<Teacher> getTeacherById(Long id) {
         return teacherRepository.findById(id);
     }
 
+    /** Version fingerprint of the teacher page, or empty if the teacher does not exist. */
+    @Transactional(readOnly = true)
+    public Optional<String> getViewVersion(Long id) {
+        return teacherRepository.findViewVersionById(id);
+    }
+
     public Teacher saveTeacher(Teacher teacher) {
         return teacherRepository.save(teacher);
     }
@@ -32,6 +112,7 @@ public class TeacherService {
         teacherRepository.deleteById(id);
     }
 
+    @Transactional(readOnly = true)
     public List<Teacher> getTeachersByDepartment(Long departmentId) {
         return teacherRepository.findByDepartmentId(departmentId);
     }
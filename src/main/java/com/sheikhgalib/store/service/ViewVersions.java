@@ -0,0 +1,64 @@
+package com.sheikhgalib.store.service;
+
+import com.sheikhgalib.store.repository.CourseRepository;
+import com.sheikhgalib.store.repository.StudentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Keeps the {@code related_version} counters behind the student and course
+ * page ETags current, so revalidating a page reads one row instead of
+ * counting its enrollments and waitlist entries.
+ * <p>
+ * Student counters are bumped in place. Every enrollment on a course would
+ * otherwise queue on the course row, so its counter is bumped just before
+ * commit and the row lock is held only for the commit itself.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class ViewVersions {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    public void touchStudent(Long studentId) {
+        studentRepository.touchRelated(List.of(studentId));
+    }
+
+    public void touchStudents(Collection<Long> studentIds) {
+        studentRepository.touchRelated(studentIds);
+    }
+
+    public void touchDepartmentStudents(Long departmentId) {
+        studentRepository.touchRelatedByDepartmentId(departmentId);
+    }
+
+    /** Students enrolled on or waiting for the course, e.g. after it was renamed. */
+    public void touchCourseStudents(Long courseId) {
+        studentRepository.touchRelatedByCourseId(courseId);
+    }
+
+    /** Students queued behind the ticket, after it left the course's waitlist. */
+    public void touchWaitersAfter(Long courseId, Long ticket) {
+        studentRepository.touchRelatedByWaitersAfter(courseId, ticket);
+    }
+
+    public void touchCourse(Long courseId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                courseRepository.touchRelated(courseId);
+            }
+        });
+    }
+}
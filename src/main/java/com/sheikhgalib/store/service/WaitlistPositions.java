@@ -0,0 +1,129 @@
+package com.sheikhgalib.store.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sheikhgalib.store.repository.WaitlistRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Waitlist positions without a {@code COUNT(*)} per page view. Each course's
+ * tickets are loaded once into a sorted array and a position is a binary
+ * search in it. Joins and departures on this instance patch the cached
+ * snapshot once they commit instead of reloading it. Snapshots expire
+ * {@code store.waitlist.position-cache-ttl} after they were loaded, however
+ * often they are patched, which bounds how stale positions can be after
+ * changes made by other instances.
+ */
+@Component
+public class WaitlistPositions implements MeterBinder {
+
+    private final WaitlistRepository waitlistRepository;
+    private final Cache<Long, long[]> snapshots;
+
+    public WaitlistPositions(WaitlistRepository waitlistRepository,
+                             @Value("${store.waitlist.position-cache-size:10000}") long maximumSize,
+                             @Value("${store.waitlist.position-cache-ttl:30s}") Duration ttl) {
+        this.waitlistRepository = waitlistRepository;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<Long, long[]>() {
+                    @Override
+                    public long expireAfterCreate(Long courseId, long[] tickets, long currentTime) {
+                        return ttl.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long courseId, long[] tickets, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long courseId, long[] tickets, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /** 1-based position of the ticket in the course's queue. */
+    public int positionOf(Long courseId, Long ticket) {
+        int index = Arrays.binarySearch(snapshot(courseId), ticket);
+        if (index < 0) {
+            // Joined after the snapshot was taken
+            snapshots.invalidate(courseId);
+            index = Arrays.binarySearch(snapshot(courseId), ticket);
+        }
+        return index >= 0 ? index + 1 : -index;
+    }
+
+    public int size(Long courseId) {
+        return snapshot(courseId).length;
+    }
+
+    /** Adds the ticket to the course's snapshot, if cached, once the current transaction commits. */
+    public void joined(Long courseId, Long ticket) {
+        afterCommit(() -> snapshots.asMap().computeIfPresent(courseId, (id, tickets) -> withTicket(tickets, ticket)));
+    }
+
+    /** Removes the tickets from the course's snapshot, if cached, once the current transaction commits. */
+    public void left(Long courseId, Collection<Long> tickets) {
+        afterCommit(() -> snapshots.asMap().computeIfPresent(courseId, (id, cached) -> withoutTickets(cached, tickets)));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, snapshots, "waitlistPositions");
+    }
+
+    private long[] snapshot(Long courseId) {
+        return snapshots.get(courseId, id -> waitlistRepository.findTicketsByCourseId(id).stream()
+                .mapToLong(Long::longValue)
+                .toArray());
+    }
+
+    /** Snapshots are shared with readers, so changes copy them. */
+    static long[] withTicket(long[] tickets, long ticket) {
+        int index = Arrays.binarySearch(tickets, ticket);
+        if (index >= 0) {
+            // Loaded after the join committed
+            return tickets;
+        }
+        int at = -index - 1;
+        long[] copy = new long[tickets.length + 1];
+        System.arraycopy(tickets, 0, copy, 0, at);
+        copy[at] = ticket;
+        System.arraycopy(tickets, at, copy, at + 1, tickets.length - at);
+        return copy;
+    }
+
+    static long[] withoutTickets(long[] tickets, Collection<Long> removed) {
+        return Arrays.stream(tickets)
+                .filter(ticket -> !removed.contains(ticket))
+                .toArray();
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.sheikhgalib.store.service;
+
+import com.sheikhgalib.store.entity.Enrollment;
+import com.sheikhgalib.store.entity.EnrollmentId;
+import com.sheikhgalib.store.entity.WaitlistEntry;
+import com.sheikhgalib.store.repository.EnrollmentRepository;
+import com.sheikhgalib.store.repository.WaitlistRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Moves students from the head of a waitlist onto the course when seats free
+ * up. Drops only mark the course as pending; a background job then promotes
+ * up to {@code store.waitlist.batch-size} students per transaction.
+ * <p>
+ * Nothing locks the course: each promotion reserves a seat through
+ * {@link SeatService} and claims its waitlist entry with a DELETE by ticket,
+ * so a promoter running on another instance simply loses the claim and gives
+ * the seat back. If the two trip over each other's row locks instead, the
+ * database rolls one batch back and that course is retried on the next run.
+ * A periodic sweep re-queues every course that still has waiters, which
+ * covers drops made by other instances and pending work lost in a restart.
+ */
+@Component
+public class WaitlistPromoter {
+
+    private static final Logger log = LoggerFactory.getLogger(WaitlistPromoter.class);
+
+    private record Batch(int promoted, boolean more) {
+    }
+
+    @Autowired
+    private WaitlistRepository waitlistRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private WaitlistPositions waitlistPositions;
+
+    @Autowired
+    private ViewVersions viewVersions;
+
+    @Value("${store.waitlist.batch-size:50}")
+    private int batchSize = 50;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final TransactionTemplate batchTransaction;
+
+    public WaitlistPromoter(PlatformTransactionManager transactionManager) {
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /** Queues the course for promotion once the current transaction commits. */
+    public void schedule(Long courseId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pending.add(courseId);
+                }
+            });
+        } else {
+            pending.add(courseId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${store.waitlist.promotion-interval:PT1S}")
+    public int promotePending() {
+        int promoted = 0;
+        for (Iterator<Long> courses = pending.iterator(); courses.hasNext(); ) {
+            Long courseId = courses.next();
+            courses.remove();
+            try {
+                promoted += promote(courseId);
+            } catch (RuntimeException e) {
+                log.warn("Waitlist promotion for course {} failed, will retry", courseId, e);
+                pending.add(courseId);
+            }
+        }
+        return promoted;
+    }
+
+    @Scheduled(fixedDelayString = "${store.waitlist.sweep-interval:PT5M}")
+    public void sweep() {
+        pending.addAll(waitlistRepository.findCourseIdsWithWaiters());
+    }
+
+    /** Promotes waiting students in ticket order until the course is full or the waitlist is empty. */
+    public int promote(Long courseId) {
+        int promoted = 0;
+        Batch batch;
+        do {
+            try {
+                batch = batchTransaction.execute(status -> promoteBatch(courseId));
+            } catch (PessimisticLockingFailureException e) {
+                // Lost a lock race with another promoter; it carries on, retry later for anything left
+                log.debug("Waitlist promotion for course {} backed off: {}", courseId, e.getMessage());
+                pending.add(courseId);
+                break;
+            }
+            promoted += batch.promoted();
+        } while (batch.more());
+        if (promoted > 0) {
+            log.debug("Promoted {} students from the waitlist of course {}", promoted, courseId);
+        }
+        return promoted;
+    }
+
+    private Batch promoteBatch(Long courseId) {
+        List<WaitlistEntry> head = waitlistRepository.findByCourseIdOrderByTicketAsc(courseId, Limit.of(batchSize));
+        List<Long> promoted = new ArrayList<>();
+        List<Long> claimed = new ArrayList<>();
+        boolean full = false;
+        for (WaitlistEntry entry : head) {
+            if (!seatService.reserve(courseId)) {
+                full = true;
+                break;
+            }
+            Long studentId = entry.getStudent().getId();
+            if (waitlistRepository.deleteByTicket(entry.getTicket()) == 0) {
+                // Claimed by another promoter
+                seatService.release(courseId);
+                continue;
+            }
+            claimed.add(entry.getTicket());
+            if (enrollmentRepository.existsById(new EnrollmentId(studentId, courseId))) {
+                // The student got in some other way
+                seatService.release(courseId);
+                continue;
+            }
+            enrollmentRepository.save(new Enrollment(entry.getStudent(), entry.getCourse(), LocalDateTime.now()));
+            promoted.add(studentId);
+        }
+        if (!claimed.isEmpty()) {
+            waitlistPositions.left(courseId, claimed);
+        }
+        if (!promoted.isEmpty()) {
+            // Everyone still waiting moved up
+            viewVersions.touchStudents(promoted);
+            viewVersions.touchWaitersAfter(courseId, 0L);
+            viewVersions.touchCourse(courseId);
+        }
+        return new Batch(promoted.size(), !full && head.size() == batchSize);
+    }
+}
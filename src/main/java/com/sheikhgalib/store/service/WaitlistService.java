@@ -0,0 +1,99 @@
+package com.sheikhgalib.store.service;
+
+import com.sheikhgalib.store.dto.EnrollmentOutcome;
+import com.sheikhgalib.store.entity.EnrollmentId;
+import com.sheikhgalib.store.entity.WaitlistEntry;
+import com.sheikhgalib.store.repository.CourseRepository;
+import com.sheikhgalib.store.repository.EnrollmentRepository;
+import com.sheikhgalib.store.repository.StudentRepository;
+import com.sheikhgalib.store.repository.WaitlistRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FIFO waitlists for full courses. Joining is a single INSERT; promotion is
+ * left to {@link WaitlistPromoter} and positions come from
+ * {@link WaitlistPositions}.
+ */
+@Service
+@Transactional
+public class WaitlistService {
+
+    @Autowired
+    private WaitlistRepository waitlistRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private WaitlistPositions waitlistPositions;
+
+    @Autowired
+    private WaitlistPromoter waitlistPromoter;
+
+    @Autowired
+    private ViewVersions viewVersions;
+
+    public EnrollmentOutcome join(Long studentId, Long courseId) {
+        if (enrollmentRepository.existsById(new EnrollmentId(studentId, courseId))) {
+            return EnrollmentOutcome.ALREADY_ENROLLED;
+        }
+        if (waitlistRepository.existsByCourseIdAndStudentId(courseId, studentId)) {
+            return EnrollmentOutcome.ALREADY_WAITLISTED;
+        }
+        WaitlistEntry entry = waitlistRepository.save(new WaitlistEntry(studentRepository.getReferenceById(studentId),
+                courseRepository.getReferenceById(courseId), LocalDateTime.now()));
+        waitlistPositions.joined(courseId, entry.getTicket());
+        viewVersions.touchStudent(studentId);
+        viewVersions.touchCourse(courseId);
+        // A seat may have been freed since the caller found the course full
+        waitlistPromoter.schedule(courseId);
+        return EnrollmentOutcome.WAITLISTED;
+    }
+
+    /** Returns {@code true} if the student was on the waitlist. */
+    public boolean leave(Long studentId, Long courseId) {
+        Long ticket = waitlistRepository.findTicketByCourseIdAndStudentId(courseId, studentId).orElse(null);
+        if (ticket == null || waitlistRepository.deleteByTicket(ticket) == 0) {
+            return false;
+        }
+        waitlistPositions.left(courseId, List.of(ticket));
+        viewVersions.touchStudent(studentId);
+        viewVersions.touchWaitersAfter(courseId, ticket);
+        viewVersions.touchCourse(courseId);
+        return true;
+    }
+
+    @Transactional(readOnly = true)
+    public List<WaitlistEntry> getWaitlistForStudent(Long studentId) {
+        return waitlistRepository.findByStudentIdWithCourse(studentId);
+    }
+
+    /** Positions of the given entries, keyed by course id. */
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> getPositions(List<WaitlistEntry> entries) {
+        Map<Long, Integer> positions = new HashMap<>();
+        for (WaitlistEntry entry : entries) {
+            Long courseId = entry.getCourse().getId();
+            positions.put(courseId, waitlistPositions.positionOf(courseId, entry.getTicket()));
+        }
+        return positions;
+    }
+
+    @Transactional(readOnly = true)
+    public int getWaitlistSize(Long courseId) {
+        return waitlistPositions.size(courseId);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Typeahead for entity pickers. Markup:
+ *   <input type="hidden" name="teacher" id="teacherId">
+ *   <input type="text" data-typeahead="TEACHER" data-typeahead-target="teacherId">
+ * Suggestions come from GET /typeahead; picking one stores its id in the target.
+ */
+(function () {
+    function attach(input) {
+        var target = document.getElementById(input.dataset.typeaheadTarget);
+        var list = document.createElement('ul');
+        list.className = 'typeahead-list';
+        list.hidden = true;
+        input.parentNode.style.position = 'relative';
+        input.parentNode.appendChild(list);
+        input.setAttribute('autocomplete', 'off');
+
+        var timer = null;
+        var latest = 0;
+
+        function close() {
+            list.hidden = true;
+            list.innerHTML = '';
+        }
+
+        function show(suggestions) {
+            list.innerHTML = '';
+            suggestions.forEach(function (suggestion) {
+                var item = document.createElement('li');
+                item.textContent = suggestion.label;
+                item.addEventListener('mousedown', function (event) {
+                    event.preventDefault();
+                    target.value = suggestion.id;
+                    input.value = suggestion.label;
+                    close();
+                });
+                list.appendChild(item);
+            });
+            list.hidden = suggestions.length === 0;
+        }
+
+        input.addEventListener('input', function () {
+            target.value = '';
+            clearTimeout(timer);
+            var query = input.value.trim();
+            if (query.length === 0) {
+                close();
+                return;
+            }
+            timer = setTimeout(function () {
+                var request = ++latest;
+                var url = (input.dataset.typeaheadUrl || '/typeahead') + '?type=' + encodeURIComponent(input.dataset.typeahead)
+                    + '&q=' + encodeURIComponent(query);
+                fetch(url, { headers: { 'Accept': 'application/json' } })
+                    .then(function (response) { return response.ok ? response.json() : []; })
+                    .then(function (suggestions) {
+                        if (request === latest) {
+                            show(suggestions);
+                        }
+                    });
+            }, 100);
+        });
+        input.addEventListener('blur', close);
+    }
+
+    document.querySelectorAll('input[data-typeahead]').forEach(attach);
+})();
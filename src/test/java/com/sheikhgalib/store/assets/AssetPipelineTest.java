@@ -0,0 +1,125 @@
+package com.sheikhgalib.store.assets;
+
+import com.aayushatharva.brotli4j.decoder.Decoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for AssetPipeline and AssetManifest
+ * Runs the pipeline over a temporary static folder
+ */
+class AssetPipelineTest {
+
+    private static final String SCRIPT = "function hello() { return 'hello'; }\n".repeat(50);
+
+    @TempDir
+    Path workDir;
+
+    private Path source;
+    private Path target;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        source = workDir.resolve("static");
+        target = workDir.resolve("assets");
+        Files.createDirectories(source.resolve("js"));
+        Files.createDirectories(source.resolve("images"));
+        Files.writeString(source.resolve("js/app.js"), SCRIPT);
+        Files.write(source.resolve("images/logo.png"), new byte[] {(byte) 0x89, 'P', 'N', 'G'});
+        Files.writeString(source.resolve("LICENSE"), "MIT");
+    }
+
+    @Test
+    @DisplayName("Should put a content hash into every file name")
+    void run_StaticFiles_FingerprintsNames() throws IOException {
+        // Act
+        Map<String, String> manifest = new AssetPipeline(false).run(source, target);
+
+        // Assert
+        assertEquals(3, manifest.size());
+        assertTrue(manifest.get("js/app.js").matches("js/app-[0-9a-f]{16}\\.js"));
+        assertTrue(manifest.get("images/logo.png").matches("images/logo-[0-9a-f]{16}\\.png"));
+        assertTrue(manifest.get("LICENSE").matches("LICENSE-[0-9a-f]{16}"));
+        assertEquals(SCRIPT, Files.readString(target.resolve(manifest.get("js/app.js"))));
+    }
+
+    @Test
+    @DisplayName("Should change the name only when the content changes")
+    void fingerprint_SameContent_SameName() {
+        byte[] content = SCRIPT.getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(AssetPipeline.fingerprint("js/app.js", content), AssetPipeline.fingerprint("js/app.js", content));
+        assertNotEquals(AssetPipeline.fingerprint("js/app.js", content),
+                AssetPipeline.fingerprint("js/app.js", "changed".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("Should gzip text files and leave binary files alone")
+    void run_TextFile_WritesGzipSibling() throws IOException {
+        // Act
+        Map<String, String> manifest = new AssetPipeline(false).run(source, target);
+
+        // Assert
+        Path script = target.resolve(manifest.get("js/app.js"));
+        try (InputStream gzip = new GZIPInputStream(Files.newInputStream(script.resolveSibling(script.getFileName() + ".gz")))) {
+            assertEquals(SCRIPT, new String(gzip.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertFalse(Files.exists(script.resolveSibling(script.getFileName() + ".br")));
+        Path logo = target.resolve(manifest.get("images/logo.png"));
+        assertFalse(Files.exists(logo.resolveSibling(logo.getFileName() + ".gz")));
+    }
+
+    @Test
+    @DisplayName("Should write a brotli sibling when brotli is available")
+    void run_BrotliAvailable_WritesBrotliSibling() throws IOException {
+        assumeTrue(AssetPipeline.brotliAvailable());
+
+        // Act
+        Map<String, String> manifest = new AssetPipeline(true).run(source, target);
+
+        // Assert
+        Path script = target.resolve(manifest.get("js/app.js"));
+        byte[] brotli = Files.readAllBytes(script.resolveSibling(script.getFileName() + ".br"));
+        assertTrue(brotli.length < SCRIPT.length());
+        assertEquals(SCRIPT, new String(Decoder.decompress(brotli).getDecompressedData(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should drop files from the previous build")
+    void run_ChangedFile_RemovesStaleHash() throws IOException {
+        // Arrange
+        String old = new AssetPipeline(false).run(source, target).get("js/app.js");
+        Files.writeString(source.resolve("js/app.js"), "changed");
+
+        // Act
+        String current = new AssetPipeline(false).run(source, target).get("js/app.js");
+
+        // Assert
+        assertNotEquals(old, current);
+        assertFalse(Files.exists(target.resolve(old)));
+        assertTrue(Files.exists(target.resolve(current)));
+    }
+
+    @Test
+    @DisplayName("Should resolve logical paths to fingerprinted URLs")
+    void url_KnownAndUnknownPaths() {
+        AssetManifest manifest = new AssetManifest(Map.of("js/app.js", "js/app-0123456789abcdef.js"));
+
+        assertEquals("/assets/js/app-0123456789abcdef.js", manifest.url("js/app.js"));
+        assertEquals("/assets/js/app-0123456789abcdef.js", manifest.url("/js/app.js"));
+        assertEquals("/assets/css/missing.css", manifest.url("css/missing.css"));
+    }
+}
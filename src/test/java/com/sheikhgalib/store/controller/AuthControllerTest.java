@@ -2,6 +2,7 @@ package com.sheikhgalib.store.controller;
 
 import com.sheikhgalib.store.entity.User;
 import com.sheikhgalib.store.repository.UserRepository;
+import com.sheikhgalib.store.security.PasswordHashingRejectedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -69,6 +70,17 @@ class AuthControllerTest {
         verify(model).addAttribute("error", "Invalid username or password");
     }
 
+    @Test
+    @DisplayName("Should display busy message when hashing capacity was exhausted")
+    void login_WithBusyError_ReturnsLoginViewWithBusyMessage() {
+        // Act
+        String viewName = authController.login("busy", null, model);
+
+        // Assert
+        assertEquals("login", viewName);
+        verify(model).addAttribute("error", "The server is busy, please try again in a moment");
+    }
+
     @Test
     @DisplayName("Should display login page with logout message")
     void login_WithLogout_ReturnsLoginViewWithMessage() {
@@ -141,6 +153,25 @@ class AuthControllerTest {
         verify(userRepository, never()).save(any(User.class));
     }
 
+    @Test
+    @DisplayName("Should fail registration when password hashing is rejected")
+    void register_HashingRejected_ReturnsRegisterWithBusyError() {
+        // Arrange
+        when(userRepository.existsByUsername("newuser")).thenReturn(false);
+        when(userRepository.existsByEmail("newuser@test.com")).thenReturn(false);
+        when(passwordEncoder.encode("password123"))
+                .thenThrow(new PasswordHashingRejectedException("busy", null));
+
+        // Act
+        String viewName = authController.register("newuser", "newuser@test.com",
+                "password123", "STUDENT", model);
+
+        // Assert
+        assertEquals("register", viewName);
+        verify(model).addAttribute("error", "The server is busy, please try again in a moment");
+        verify(userRepository, never()).save(any(User.class));
+    }
+
     @Test
     @DisplayName("Should display dashboard for authenticated user")
     void dashboard_AuthenticatedUser_ReturnsDashboardView() {
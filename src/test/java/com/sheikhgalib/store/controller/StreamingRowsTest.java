@@ -0,0 +1,114 @@
+package com.sheikhgalib.store.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StreamingRows
+ * Serves numbered rows from an in-memory keyset source
+ */
+class StreamingRowsTest {
+
+    private static final int CHUNK = 3;
+
+    private MockHttpServletResponse response;
+    private List<ScrollPosition> fetched;
+
+    @BeforeEach
+    void setUp() {
+        response = new MockHttpServletResponse();
+        fetched = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("Should return every row across chunks, in order")
+    void iterate_SeveralChunks_ReturnsAllRows() {
+        // Arrange
+        StreamingRows<Integer> rows = new StreamingRows<>(source(7), response);
+
+        // Act
+        List<Integer> result = new ArrayList<>();
+        rows.forEach(result::add);
+
+        // Assert
+        assertEquals(IntStream.rangeClosed(1, 7).boxed().toList(), result);
+        assertEquals(3, fetched.size());
+        assertFalse(rows.isEmpty());
+        assertEquals(3, fetched.size(), "isEmpty after the loop fetches nothing");
+    }
+
+    @Test
+    @DisplayName("Should flush what was rendered before fetching the first chunk")
+    void iterate_FirstRow_FlushesShellBeforeFetch() throws Exception {
+        // Arrange
+        response.getWriter().write("<table>");
+        Function<ScrollPosition, Window<Integer>> source = source(2);
+        StreamingRows<Integer> rows = new StreamingRows<>(position -> {
+            assertTrue(response.isCommitted(), "shell flushed before the query");
+            return source.apply(position);
+        }, response);
+
+        // Act
+        rows.iterator().next();
+
+        // Assert
+        assertEquals("<table>", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Should stop after a final chunk that is exactly full")
+    void iterate_ExactMultipleOfChunk_StopsWithoutExtraFetch() {
+        StreamingRows<Integer> rows = new StreamingRows<>(source(6), response);
+
+        long count = 0;
+        for (Integer ignored : rows) {
+            count++;
+        }
+
+        assertEquals(6, count);
+        assertEquals(2, fetched.size());
+    }
+
+    @Test
+    @DisplayName("Should report an empty list")
+    void isEmpty_NoRows_ReturnsTrue() {
+        StreamingRows<Integer> rows = new StreamingRows<>(source(0), response);
+
+        assertFalse(rows.iterator().hasNext());
+        assertTrue(rows.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should refuse a second pass over the rows")
+    void iterator_Twice_Throws() {
+        StreamingRows<Integer> rows = new StreamingRows<>(source(1), response);
+        rows.iterator();
+
+        assertThrows(IllegalStateException.class, rows::iterator);
+    }
+
+    /** Rows 1..total keyed by "id", served CHUNK at a time like a keyset query with a limit. */
+    private Function<ScrollPosition, Window<Integer>> source(int total) {
+        return position -> {
+            fetched.add(position);
+            long after = position instanceof KeysetScrollPosition keyset && !keyset.isInitial()
+                    ? (Long) keyset.getKeys().get("id") : 0;
+            List<Integer> chunk = IntStream.rangeClosed((int) after + 1, total).limit(CHUNK).boxed().toList();
+            boolean hasNext = !chunk.isEmpty() && chunk.get(chunk.size() - 1) < total;
+            return Window.from(chunk, i -> ScrollPosition.forward(Map.of("id", (long) chunk.get(i))), hasNext);
+        };
+    }
+}
@@ -1,9 +1,12 @@
 package com.sheikhgalib.store.controller;
 
+import com.sheikhgalib.store.dto.EnrollmentOutcome;
 import com.sheikhgalib.store.entity.Department;
 import com.sheikhgalib.store.entity.Student;
 import com.sheikhgalib.store.service.DepartmentService;
+import com.sheikhgalib.store.service.EnrollmentService;
 import com.sheikhgalib.store.service.StudentService;
+import com.sheikhgalib.store.service.WaitlistService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,7 +14,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.ui.Model;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.Arrays;
 import java.util.List;
@@ -35,6 +43,12 @@ class StudentControllerTest {
     @Mock
     private DepartmentService departmentService;
 
+    @Mock
+    private EnrollmentService enrollmentService;
+
+    @Mock
+    private WaitlistService waitlistService;
+
     @Mock
     private Model model;
 
@@ -45,6 +59,9 @@ class StudentControllerTest {
     private Department department;
     private List<Student> studentList;
     private List<Department> departmentList;
+    private MockHttpServletRequest servletRequest;
+    private MockHttpServletResponse servletResponse;
+    private ServletWebRequest request;
 
     @BeforeEach
     void setUp() {
@@ -71,21 +88,58 @@ class StudentControllerTest {
 
         studentList = Arrays.asList(student, student2);
         departmentList = Arrays.asList(department);
+
+        servletRequest = new MockHttpServletRequest("GET", "/student/view/1");
+        servletResponse = new MockHttpServletResponse();
+        request = new ServletWebRequest(servletRequest, servletResponse);
     }
 
     @Test
-    @DisplayName("Should list all students")
+    @DisplayName("Should list the first page of students")
     void listStudents_ReturnsStudentListView() {
         // Arrange
-        when(studentService.getAllStudents()).thenReturn(studentList);
+        when(studentService.getStudentPage(null, "id", "asc", null))
+                .thenReturn(Window.from(studentList, ScrollPosition::offset));
 
         // Act
-        String viewName = studentController.listStudents(model);
+        String viewName = studentController.listStudents(null, "id", "asc", null, false, model, servletResponse);
 
         // Assert
         assertEquals("student/list", viewName);
         verify(model).addAttribute(eq("students"), any(List.class));
-        verify(studentService, times(1)).getAllStudents();
+        verify(model).addAttribute("nextCursor", null);
+        verify(studentService, times(1)).getStudentPage(null, "id", "asc", null);
+    }
+
+    @Test
+    @DisplayName("Should fall back to id ordering for unsupported sort columns")
+    void listStudents_UnsupportedSort_FallsBackToId() {
+        // Arrange
+        when(studentService.getStudentPage(null, "id", "desc", 10))
+                .thenReturn(Window.from(studentList, ScrollPosition::offset));
+
+        // Act
+        String viewName = studentController.listStudents(null, "phone", "DESC", 10, false, model, servletResponse);
+
+        // Assert
+        assertEquals("student/list", viewName);
+        verify(model).addAttribute("sort", "id");
+        verify(model).addAttribute("dir", "desc");
+        verify(studentService, times(1)).getStudentPage(null, "id", "desc", 10);
+    }
+
+    @Test
+    @DisplayName("Should hand the template streaming rows instead of a page when all rows are requested")
+    void listStudents_All_StreamsRows() {
+        // Act
+        String viewName = studentController.listStudents(null, "lastName", "asc", null, true, model, servletResponse);
+
+        // Assert
+        assertEquals("student/list", viewName);
+        verify(model).addAttribute(eq("students"), any(StreamingRows.class));
+        verify(model).addAttribute("nextCursor", null);
+        verify(model).addAttribute("all", true);
+        verifyNoInteractions(studentService);
     }
 
     @Test
@@ -95,14 +149,66 @@ class StudentControllerTest {
         when(studentService.getStudentById(1L)).thenReturn(Optional.of(student));
 
         // Act
-        String viewName = studentController.viewStudent(1L, model);
+        String viewName = studentController.viewStudent(1L, model, request);
 
         // Assert
         assertEquals("student/view", viewName);
         verify(model).addAttribute(eq("student"), any(Student.class));
+        verify(model).addAttribute(eq("enrollments"), any());
+        verify(model).addAttribute(eq("waitlistPositions"), any());
         verify(studentService, times(1)).getStudentById(1L);
     }
 
+    @Test
+    @DisplayName("Should tag the student page with an ETag and revalidation headers")
+    void viewStudent_ExistingId_SetsETag() {
+        // Arrange
+        when(studentService.getViewVersion(1L)).thenReturn(Optional.of("3:1"));
+        when(studentService.getStudentById(1L)).thenReturn(Optional.of(student));
+
+        // Act
+        String viewName = studentController.viewStudent(1L, model, request);
+
+        // Assert
+        assertEquals("student/view", viewName);
+        assertNotNull(servletResponse.getHeader("ETag"));
+        assertEquals("private, no-cache", servletResponse.getHeader("Cache-Control"));
+    }
+
+    @Test
+    @DisplayName("Should answer 304 without loading the student when the ETag still matches")
+    void viewStudent_MatchingETag_ReturnsNotModified() {
+        // Arrange
+        when(studentService.getViewVersion(1L)).thenReturn(Optional.of("3:1"));
+        servletRequest.addHeader("If-None-Match", ViewETags.etag("3:1", request));
+
+        // Act
+        String viewName = studentController.viewStudent(1L, model, request);
+
+        // Assert
+        assertNull(viewName);
+        assertEquals(304, servletResponse.getStatus());
+        verify(studentService, never()).getStudentById(any());
+        verifyNoInteractions(enrollmentService, waitlistService, model);
+    }
+
+    @Test
+    @DisplayName("Should render again once the student's version moves on")
+    void viewStudent_StaleETag_RendersPage() {
+        // Arrange
+        when(studentService.getViewVersion(1L)).thenReturn(Optional.of("4:1"));
+        when(studentService.getStudentById(1L)).thenReturn(Optional.of(student));
+        servletRequest.addHeader("If-None-Match", ViewETags.etag("3:1", request));
+
+        // Act
+        String viewName = studentController.viewStudent(1L, model, request);
+
+        // Assert
+        assertEquals("student/view", viewName);
+        assertEquals(200, servletResponse.getStatus());
+        assertEquals(ViewETags.etag("4:1", request), servletResponse.getHeader("ETag"));
+    }
+
     @Test
     @DisplayName("Should throw exception when viewing non-existing student")
     void viewStudent_NonExistingId_ThrowsException() {
@@ -111,7 +217,7 @@ class StudentControllerTest {
 
         // Act & Assert
         assertThrows(RuntimeException.class, () -> {
-            studentController.viewStudent(999L, model);
+            studentController.viewStudent(999L, model, request);
         });
     }
 
@@ -200,4 +306,69 @@ class StudentControllerTest {
         assertEquals("redirect:/student/list", viewName);
         verify(studentService, times(1)).deleteStudent(1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should enroll student and redirect to the student page")
+    void enroll_ValidCourse_RedirectsToView() {
+        // Arrange
+        when(enrollmentService.enroll(1L, 7L)).thenReturn(EnrollmentOutcome.ENROLLED);
+
+        // Act
+        String viewName = studentController.enroll(1L, 7L);
+
+        // Assert
+        assertEquals("redirect:/student/view/1", viewName);
+        verify(enrollmentService).enroll(1L, 7L);
+    }
+
+    @Test
+    @DisplayName("Should put the student on the waitlist of a full course")
+    void enroll_CourseFull_JoinsWaitlist() {
+        // Arrange
+        when(enrollmentService.enroll(1L, 7L)).thenReturn(EnrollmentOutcome.COURSE_FULL);
+        when(waitlistService.join(1L, 7L)).thenReturn(EnrollmentOutcome.WAITLISTED);
+
+        // Act
+        String viewName = studentController.enroll(1L, 7L);
+
+        // Assert
+        assertEquals("redirect:/student/view/1?waitlisted", viewName);
+        verify(waitlistService).join(1L, 7L);
+    }
+
+    @Test
+    @DisplayName("Should ignore an enroll request without a course")
+    void enroll_NoCourse_DoesNothing() {
+        // Act
+        String viewName = studentController.enroll(1L, null);
+
+        // Assert
+        assertEquals("redirect:/student/view/1", viewName);
+        verifyNoInteractions(enrollmentService);
+    }
+
+    @Test
+    @DisplayName("Should unenroll student and redirect to the student page")
+    void unenroll_ExistingEnrollment_RedirectsToView() {
+        // Arrange
+        when(enrollmentService.unenroll(1L, 7L)).thenReturn(true);
+
+        // Act
+        String viewName = studentController.unenroll(1L, 7L);
+
+        // Assert
+        assertEquals("redirect:/student/view/1", viewName);
+        verify(enrollmentService).unenroll(1L, 7L);
+    }
+
+    @Test
+    @DisplayName("Should take the student off a waitlist and redirect to the student page")
+    void leaveWaitlist_Waiting_RedirectsToView() {
+        // Act
+        String viewName = studentController.leaveWaitlist(1L, 7L);
+
+        // Assert
+        assertEquals("redirect:/student/view/1", viewName);
+        verify(waitlistService).leave(1L, 7L);
+    }
+}
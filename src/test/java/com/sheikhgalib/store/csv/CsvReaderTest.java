@@ -0,0 +1,58 @@
+package com.sheikhgalib.store.csv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CsvReader
+ */
+class CsvReaderTest {
+
+    @Test
+    @DisplayName("Should read plain records and track line numbers")
+    void readRecord_PlainRecords_ReturnsFields() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b,c\r\n1,2,3\n\n4,,6"));
+
+        assertEquals(List.of("a", "b", "c"), reader.readRecord());
+        assertEquals(1, reader.getRecordLine());
+        assertEquals(List.of("1", "2", "3"), reader.readRecord());
+        assertEquals(2, reader.getRecordLine());
+        assertEquals(List.of("4", "", "6"), reader.readRecord());
+        assertEquals(4, reader.getRecordLine());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    @DisplayName("Should handle quoted fields with commas, quotes and line breaks")
+    void readRecord_QuotedFields_ReturnsUnescapedValues() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\"Smith, John\",\"say \"\"hi\"\"\",\"two\nlines\"\nnext,row\n"));
+
+        assertEquals(List.of("Smith, John", "say \"hi\"", "two\nlines"), reader.readRecord());
+        assertEquals(List.of("next", "row"), reader.readRecord());
+        assertEquals(3, reader.getRecordLine());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    @DisplayName("Should skip a leading byte order mark")
+    void readRecord_ByteOrderMark_IsSkipped() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFfirstName,lastName\n"));
+
+        assertEquals(List.of("firstName", "lastName"), reader.readRecord());
+    }
+
+    @Test
+    @DisplayName("Should fail on an unterminated quoted field")
+    void readRecord_UnterminatedQuote_Throws() {
+        CsvReader reader = new CsvReader(new StringReader("\"open,field\n"));
+
+        CsvFormatException e = assertThrows(CsvFormatException.class, reader::readRecord);
+        assertEquals(1, e.getLine());
+    }
+}
@@ -0,0 +1,39 @@
+package com.sheikhgalib.store.csv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CsvWriter
+ */
+class CsvWriterTest {
+
+    @Test
+    @DisplayName("Should quote only fields that need it and write nulls as empty")
+    void writeRecord_MixedValues_EscapesCorrectly() throws IOException {
+        StringWriter out = new StringWriter();
+        CsvWriter writer = new CsvWriter(out);
+
+        writer.writeRecord(Arrays.asList(1L, "plain", null, "a,b", "say \"hi\""));
+
+        assertEquals("1,plain,,\"a,b\",\"say \"\"hi\"\"\"\r\n", out.toString());
+    }
+
+    @Test
+    @DisplayName("Should produce output that CsvReader reads back unchanged")
+    void writeRecord_RoundTripsThroughReader() throws IOException {
+        List<String> record = List.of("multi\nline", "comma,value", "\"quoted\"");
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).writeRecord(record);
+
+        assertEquals(record, new CsvReader(new StringReader(out.toString())).readRecord());
+    }
+}
@@ -0,0 +1,189 @@
+package com.sheikhgalib.store.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReadReplicaRoutingDataSource
+ * Tests routing by transaction read-only flag and fallback to the primary
+ */
+@ExtendWith(MockitoExtension.class)
+class ReadReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private final MutableClock clock = new MutableClock();
+    private ReplicaDataSourceProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ReplicaDataSourceProperties();
+        properties.setReplicaRetryInterval(Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("Should route read-only transactions to the replica")
+    void getConnection_ReadOnly_UsesReplica() throws SQLException {
+        // Arrange
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Connection connection = routing(List.of(replica)).getConnection();
+
+        // Assert
+        assertSame(replicaConnection, connection);
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should route read-write work to the primary")
+    void getConnection_ReadWrite_UsesPrimary() throws SQLException {
+        // Arrange
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act
+        Connection connection = routing(List.of(replica)).getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should use the primary for reads when no replicas are configured")
+    void getConnection_NoReplicas_UsesPrimary() throws SQLException {
+        // Arrange
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Connection connection = routing(List.of()).getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary and skip a failing replica until the retry interval passes")
+    void getConnection_ReplicaFails_FallsBackAndRetriesLater() throws SQLException {
+        // Arrange
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused")).thenReturn(replicaConnection);
+        ReadReplicaRoutingDataSource routing = routing(List.of(replica));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act & Assert
+        assertSame(primaryConnection, routing.getConnection());
+        assertEquals(0, routing.getAvailableReplicaCount());
+        assertSame(primaryConnection, routing.getConnection());
+        verify(replica, times(1)).getConnection();
+
+        clock.advance(Duration.ofSeconds(31));
+        assertSame(replicaConnection, routing.getConnection());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when the replica lags too far behind")
+    void getConnection_ReplicaLagging_FallsBackToPrimary() throws SQLException {
+        // Arrange
+        properties.setReplicaLagQuery("select lag");
+        properties.setReplicaMaxLag(Duration.ofSeconds(10));
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(replicaConnection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("select lag")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(42.0);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Connection connection = routing(List.of(replica)).getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        verify(replicaConnection).close();
+    }
+
+    @Test
+    @DisplayName("Should spread reads across replicas round-robin")
+    void getConnection_TwoReplicas_AlternatesBetweenThem() throws SQLException {
+        // Arrange
+        DataSource secondReplica = mock(DataSource.class);
+        Connection secondConnection = mock(Connection.class);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(secondReplica.getConnection()).thenReturn(secondConnection);
+        ReadReplicaRoutingDataSource routing = routing(List.of(replica, secondReplica));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act & Assert
+        assertSame(replicaConnection, routing.getConnection());
+        assertSame(secondConnection, routing.getConnection());
+        assertSame(replicaConnection, routing.getConnection());
+    }
+
+    private ReadReplicaRoutingDataSource routing(List<DataSource> replicas) {
+        return new ReadReplicaRoutingDataSource(primary, replicas, properties, clock);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -67,10 +67,10 @@ class StudentTest {
     }
 
     @Test
-    @DisplayName("Should initialize with empty courses list")
-    void testCoursesInitialization() {
+    @DisplayName("Should initialize with empty enrollments set")
+    void testEnrollmentsInitialization() {
         // Assert
-        assertNotNull(student.getCourses());
-        assertTrue(student.getCourses().isEmpty());
+        assertNotNull(student.getEnrollments());
+        assertTrue(student.getEnrollments().isEmpty());
     }
 }
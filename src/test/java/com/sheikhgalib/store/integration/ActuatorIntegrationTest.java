@@ -0,0 +1,90 @@
+package com.sheikhgalib.store.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the actuator endpoints and the Prometheus scrape
+ * Metrics export is off in Spring Boot tests unless observability is auto-configured.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class ActuatorIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should answer the health check without authentication")
+    void health_Anonymous_ReturnsUp() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+    }
+
+    @Test
+    @DisplayName("Should answer 401 to an anonymous scrape and 403 to a non-admin")
+    void prometheus_NotAdmin_IsRejected() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("student1", "student123")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should not create a session for a scrape")
+    void prometheus_Admin_IsStateless() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("admin", "admin123")))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Set-Cookie"))
+                .andExpect(request().sessionAttributeDoesNotExist("SPRING_SECURITY_CONTEXT"));
+    }
+
+    @Test
+    @DisplayName("Should export request, repository, pool, Hibernate and cache meters in Prometheus format")
+    void prometheus_AfterTraffic_ExportsHistogramsAndStatistics() throws Exception {
+        // Arrange
+        mockMvc.perform(get("/student/list").with(user("teacher").roles("TEACHER")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/students").with(httpBasic("teacher1", "teacher123")))
+                .andExpect(status().isOk());
+
+        // Act
+        String scrape = mockMvc.perform(get("/actuator/prometheus").with(httpBasic("admin", "admin123")))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/plain"))
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        assertTrue(scrape.lines().anyMatch(line -> line.startsWith("http_server_requests_seconds_bucket{")
+                && line.contains("handler=\"StudentController.listStudents\"")
+                && line.contains("uri=\"/student/list\"")), "per-handler request histogram");
+        assertTrue(scrape.lines().anyMatch(line -> line.startsWith("http_server_requests_seconds_bucket{")
+                && line.contains("handler=\"StudentApiController.listStudents\"")), "API handler histogram");
+        assertTrue(scrape.lines().anyMatch(line -> line.startsWith("spring_data_repository_invocations_seconds_bucket{")
+                && line.contains("repository=\"StudentRepository\"")), "per-repository-method histogram");
+        assertTrue(scrape.lines().anyMatch(line -> line.startsWith("hikaricp_connections_acquire_seconds_bucket{")
+                && line.contains("pool=\"primary\"")), "pool metrics");
+        assertTrue(scrape.lines().anyMatch(line -> line.startsWith("hibernate_sessions_open_total{")), "session statistics");
+        assertTrue(scrape.lines().anyMatch(line -> line.startsWith("hibernate_second_level_cache_requests_total{")),
+                "second-level cache statistics");
+        assertTrue(scrape.lines().anyMatch(line -> line.startsWith("cache_gets_total{")
+                && line.contains("cache=\"userDetails\"")), "user details cache statistics");
+    }
+}
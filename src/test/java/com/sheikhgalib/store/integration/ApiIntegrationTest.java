@@ -0,0 +1,305 @@
+package com.sheikhgalib.store.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sheikhgalib.store.entity.Course;
+import com.sheikhgalib.store.entity.Department;
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.pagination.KeysetCursor;
+import com.sheikhgalib.store.repository.CourseRepository;
+import com.sheikhgalib.store.repository.DepartmentRepository;
+import com.sheikhgalib.store.repository.StudentRepository;
+import com.sheikhgalib.store.service.EnrollmentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the /api/v1 JSON API
+ * Tests projections, cursors, streaming and the API security chain
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+class ApiIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Department department;
+    private Course course;
+    private List<Student> students;
+
+    @BeforeEach
+    void setUp() {
+        department = new Department();
+        department.setName("API Department");
+        department = departmentRepository.save(department);
+
+        course = new Course();
+        course.setName("Integrations");
+        course.setCourseCode("API101");
+        course.setDepartment(department);
+        course = courseRepository.save(course);
+
+        students = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Student student = new Student();
+            student.setFirstName("Api");
+            student.setLastName("Student" + i);
+            student.setEmail("api" + i + "@api.test");
+            student.setDepartment(i == 0 ? null : department);
+            students.add(student);
+        }
+        students = studentRepository.saveAll(students);
+        for (Student student : students) {
+            enrollmentService.enroll(student.getId(), course.getId());
+        }
+        studentRepository.flush();
+    }
+
+    @Test
+    @DisplayName("Should answer 401 without a login redirect when unauthenticated")
+    void api_Unauthenticated_Returns401() throws Exception {
+        mockMvc.perform(get("/api/v1/students"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().doesNotExist("Location"));
+    }
+
+    @Test
+    @DisplayName("Should accept HTTP Basic credentials")
+    void api_HttpBasic_ReturnsStudents() throws Exception {
+        mockMvc.perform(get("/api/v1/students").with(httpBasic("admin", "admin123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isArray());
+    }
+
+    @Test
+    @DisplayName("Should answer 403 for resources outside the caller's role")
+    @WithMockUser(roles = "STUDENT")
+    void api_StudentRole_CannotListCourses() throws Exception {
+        mockMvc.perform(get("/api/v1/courses"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/v1/students"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should serve flat projections instead of entities")
+    @WithMockUser(roles = "STUDENT")
+    void getStudent_ReturnsProjection() throws Exception {
+        Student student = students.get(1);
+
+        JsonNode body = json(get("/api/v1/students/" + student.getId()));
+
+        assertEquals(Set.of("id", "firstName", "lastName", "email", "studentId", "phone", "departmentId",
+                "departmentName"), fieldNames(body));
+        assertEquals("Student1", body.get("lastName").asText());
+        assertEquals("API Department", body.get("departmentName").asText());
+    }
+
+    @Test
+    @DisplayName("Should keep students without a department")
+    @WithMockUser(roles = "STUDENT")
+    void getStudent_NoDepartment_ReturnsNullDepartment() throws Exception {
+        JsonNode body = json(get("/api/v1/students/" + students.get(0).getId()));
+
+        assertTrue(body.get("departmentId").isNull());
+    }
+
+    @Test
+    @DisplayName("Should answer 404 for an unknown id")
+    @WithMockUser(roles = "ADMIN")
+    void getCourse_Unknown_Returns404() throws Exception {
+        mockMvc.perform(get("/api/v1/courses/999999"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should page through students with cursors, without gaps or repeats")
+    @WithMockUser(roles = "STUDENT")
+    void listStudents_Cursor_WalksAllPages() throws Exception {
+        List<String> lastNames = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = get("/api/v1/students")
+                    .param("sort", "lastName").param("dir", "desc").param("size", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = json(request);
+            assertTrue(page.get("items").size() <= 2);
+            page.get("items").forEach(item -> lastNames.add(item.get("lastName").asText()));
+            cursor = page.get("next").isNull() ? null : page.get("next").asText();
+        } while (cursor != null);
+
+        assertEquals(studentRepository.count(), lastNames.size());
+        List<String> sorted = new ArrayList<>(lastNames);
+        sorted.sort((a, b) -> b.compareTo(a));
+        assertEquals(sorted, lastNames);
+    }
+
+    @Test
+    @DisplayName("Should stream every row through the generator, one query per chunk")
+    @WithMockUser(roles = "ADMIN")
+    void listStudents_All_StreamsEveryRow() throws Exception {
+        // Arrange
+        long total = studentRepository.count();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        JsonNode body = json(get("/api/v1/students").param("all", "true"));
+
+        // Assert
+        assertEquals(total, body.get("items").size());
+        assertTrue(body.get("next").isNull());
+        assertEquals((total + KeysetCursor.CHUNK_SIZE - 1) / KeysetCursor.CHUNK_SIZE,
+                statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should page through a course's enrollments by student")
+    @WithMockUser(roles = "TEACHER")
+    void listCourseEnrollments_Cursor_WalksAllPages() throws Exception {
+        JsonNode first = json(get("/api/v1/courses/" + course.getId() + "/enrollments").param("size", "3"));
+        JsonNode second = json(get("/api/v1/courses/" + course.getId() + "/enrollments")
+                .param("size", "3").param("cursor", first.get("next").asText()));
+
+        List<Long> studentIds = new ArrayList<>();
+        first.get("items").forEach(item -> studentIds.add(item.get("studentId").asLong()));
+        second.get("items").forEach(item -> studentIds.add(item.get("studentId").asLong()));
+        assertEquals(students.stream().map(Student::getId).toList(), studentIds);
+        assertTrue(second.get("next").isNull());
+        assertEquals("API101", first.get("items").get(0).get("courseCode").asText());
+        assertEquals("ACTIVE", first.get("items").get(0).get("status").asText());
+    }
+
+    @Test
+    @DisplayName("Should list a student's enrollments")
+    @WithMockUser(roles = "STUDENT")
+    void listStudentEnrollments_ReturnsCourses() throws Exception {
+        JsonNode page = json(get("/api/v1/students/" + students.get(2).getId() + "/enrollments"));
+
+        assertEquals(1, page.get("items").size());
+        assertEquals(course.getId(), page.get("items").get(0).get("courseId").asLong());
+    }
+
+    @Test
+    @DisplayName("Should serve departments without their collections")
+    @WithMockUser(roles = "TEACHER")
+    void getDepartment_ReturnsProjection() throws Exception {
+        JsonNode body = json(get("/api/v1/departments/" + department.getId()));
+
+        assertEquals(Set.of("id", "name", "description"), fieldNames(body));
+    }
+
+    @Test
+    @DisplayName("Should return only the requested fields")
+    @WithMockUser(roles = "STUDENT")
+    void getStudent_Fields_ReturnsSparseObject() throws Exception {
+        JsonNode body = json(get("/api/v1/students/" + students.get(1).getId()).param("fields", "id,lastName"));
+
+        assertEquals(Set.of("id", "lastName"), fieldNames(body));
+    }
+
+    @Test
+    @DisplayName("Should nest expanded associations")
+    @WithMockUser(roles = "TEACHER")
+    void listCourses_Expand_NestsDepartment() throws Exception {
+        JsonNode page = json(get("/api/v1/courses").param("fields", "id,courseCode").param("expand", "department"));
+
+        JsonNode item = page.get("items").findParents("courseCode").stream()
+                .filter(node -> node.get("courseCode").asText().equals("API101"))
+                .findFirst().orElseThrow();
+        assertEquals(Set.of("id", "courseCode", "department"), fieldNames(item));
+        assertEquals("API Department", item.get("department").get("name").asText());
+    }
+
+    @Test
+    @DisplayName("Should page and stream sparse rows with the same cursors")
+    @WithMockUser(roles = "STUDENT")
+    void listStudents_FieldsWithCursor_WalksAllPages() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = get("/api/v1/students")
+                    .param("fields", "id").param("sort", "email").param("size", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = json(request);
+            page.get("items").forEach(item -> ids.add(item.get("id").asLong()));
+            cursor = page.get("next").isNull() ? null : page.get("next").asText();
+        } while (cursor != null);
+
+        JsonNode streamed = json(get("/api/v1/students").param("all", "true").param("fields", "id").param("sort", "email"));
+        List<Long> streamedIds = new ArrayList<>();
+        streamed.get("items").forEach(item -> streamedIds.add(item.get("id").asLong()));
+        assertEquals(ids, streamedIds);
+        assertEquals(studentRepository.count(), ids.size());
+    }
+
+    @Test
+    @DisplayName("Should answer 400 for unknown fields or expansions")
+    @WithMockUser(roles = "ADMIN")
+    void listStudents_UnknownField_Returns400() throws Exception {
+        mockMvc.perform(get("/api/v1/students").param("fields", "id,password"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/departments").param("expand", "students"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode json(MockHttpServletRequestBuilder request) throws Exception {
+        String content = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(content);
+    }
+
+    private static Set<String> fieldNames(JsonNode node) {
+        Set<String> names = new HashSet<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
@@ -0,0 +1,243 @@
+package com.sheikhgalib.store.integration;
+
+import com.sheikhgalib.store.dto.BulkEnrollmentResult;
+import com.sheikhgalib.store.entity.Course;
+import com.sheikhgalib.store.entity.Department;
+import com.sheikhgalib.store.entity.EnrollmentStatus;
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.repository.CourseRepository;
+import com.sheikhgalib.store.repository.DepartmentRepository;
+import com.sheikhgalib.store.repository.EnrollmentRepository;
+import com.sheikhgalib.store.repository.QueryCounter;
+import com.sheikhgalib.store.repository.SeatStripeRepository;
+import com.sheikhgalib.store.service.CourseService;
+import com.sheikhgalib.store.repository.StudentRepository;
+import com.sheikhgalib.store.service.EnrollmentService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for bulk enrollment
+ * Enrolls a department-sized cohort against the H2 database
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+class BulkEnrollmentIntegrationTest {
+
+    private static final int COHORT_SIZE = 5000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private SeatStripeRepository seatStripeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Department department;
+    private Course course;
+    private List<Long> studentIds;
+
+    @BeforeEach
+    void setUp() {
+        department = new Department();
+        department.setName("Bulk Department");
+        department = departmentRepository.save(department);
+
+        course = new Course();
+        course.setName("Intro to Everything");
+        course.setCourseCode("BULK101");
+        course = courseRepository.save(course);
+    }
+
+    private void seedStudents(int count) {
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Student student = new Student();
+            student.setFirstName("Bulk");
+            student.setLastName("Student" + i);
+            student.setEmail("bulk" + i + "@bulk.test");
+            student.setDepartment(department);
+            students.add(student);
+        }
+        studentIds = studentRepository.saveAll(students).stream().map(Student::getId).toList();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should enroll a whole department and skip students already enrolled")
+    void enrollDepartment_SomeAlreadyEnrolled_SkipsDuplicates() throws Throwable {
+        // Arrange
+        seedStudents(COHORT_SIZE);
+        enrollmentService.enroll(studentIds.get(0), course.getId());
+        enrollmentService.enroll(studentIds.get(1), course.getId());
+        entityManager.flush();
+
+        // Act
+        BulkEnrollmentResult[] result = new BulkEnrollmentResult[1];
+        List<String> statements = QueryCounter.statementsDuring(() ->
+                result[0] = enrollmentService.enrollDepartment(course.getId(), department.getId()));
+
+        // Assert
+        assertEquals(COHORT_SIZE, result[0].requested());
+        assertEquals(COHORT_SIZE - 2, result[0].enrolled());
+        assertEquals(2, result[0].alreadyEnrolled());
+        assertEquals(0, result[0].notFound());
+        assertEquals(1, setBasedInserts(statements), "one INSERT ... SELECT for the whole department");
+        QueryCounter.assertAtMost(5, statements, "enrollDepartment");
+        assertEquals(COHORT_SIZE, enrollmentRepository.countByIdCourseIdAndStatus(course.getId(), EnrollmentStatus.ACTIVE));
+    }
+
+    @Test
+    @DisplayName("Should stop a bulk enrollment at the course capacity")
+    void enrollDepartment_LimitedCapacity_FillsRemainingSeats() {
+        // Arrange
+        seedStudents(COHORT_SIZE);
+        course.setCapacity(1500);
+        course = courseService.saveCourse(course);
+        enrollmentService.enroll(studentIds.get(0), course.getId());
+        enrollmentService.enroll(studentIds.get(1), course.getId());
+
+        // Act
+        BulkEnrollmentResult result = enrollmentService.enrollDepartment(course.getId(), department.getId());
+        entityManager.flush();
+
+        // Assert
+        assertEquals(1498, result.enrolled());
+        assertEquals(2, result.alreadyEnrolled());
+        assertEquals(COHORT_SIZE - 1500, result.noSeat());
+        assertEquals(1500, enrollmentRepository.countByIdCourseId(course.getId()));
+        assertEquals(1500, seatStripeRepository.sumTaken(course.getId()));
+    }
+
+    @Test
+    @DisplayName("Should enroll a list of ids across chunks and report unknown and repeated ids")
+    void enrollStudents_MixedIds_ReportsCounts() throws Throwable {
+        // Arrange
+        seedStudents(COHORT_SIZE);
+        List<Long> requested = new ArrayList<>(studentIds);
+        requested.add(studentIds.get(0));
+        requested.add(-1L);
+        requested.add(-2L);
+        enrollmentService.enroll(studentIds.get(10), course.getId());
+        entityManager.flush();
+
+        // Act
+        BulkEnrollmentResult[] result = new BulkEnrollmentResult[1];
+        List<String> statements = QueryCounter.statementsDuring(() ->
+                result[0] = enrollmentService.enrollStudents(course.getId(), requested));
+
+        // Assert
+        assertEquals(COHORT_SIZE + 2, result[0].requested());
+        assertEquals(COHORT_SIZE - 1, result[0].enrolled());
+        assertEquals(1, result[0].alreadyEnrolled());
+        assertEquals(2, result[0].notFound());
+        // 5002 distinct ids in chunks of 1000
+        assertEquals(6, setBasedInserts(statements), "one INSERT ... SELECT per chunk");
+        QueryCounter.assertAtMost(6 * 5, statements, "enrollStudents");
+    }
+
+    private static long setBasedInserts(List<String> statements) {
+        return statements.stream()
+                .filter(sql -> sql.startsWith("insert into enrollments") && sql.contains(" select "))
+                .count();
+    }
+
+    @Test
+    @DisplayName("Should be idempotent when the same bulk request is repeated")
+    void enrollStudents_Repeated_EnrollsNothingNew() {
+        // Arrange
+        seedStudents(10);
+        enrollmentService.enrollStudents(course.getId(), studentIds);
+
+        // Act
+        BulkEnrollmentResult result = enrollmentService.enrollStudents(course.getId(), studentIds);
+
+        // Assert
+        assertEquals(0, result.enrolled());
+        assertEquals(10, result.alreadyEnrolled());
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("Teacher should bulk enroll pasted student IDs")
+    void bulkEnroll_AsTeacher_ShowsResult() throws Exception {
+        // Arrange
+        seedStudents(3);
+
+        // Act
+        MvcResult mvcResult = mockMvc.perform(post("/course/" + course.getId() + "/enrollments/bulk")
+                        .param("studentIds", studentIds.get(0) + ", " + studentIds.get(1) + "\n" + studentIds.get(2))
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(view().name("course/bulk-enroll"))
+                .andReturn();
+
+        // Assert
+        BulkEnrollmentResult result = (BulkEnrollmentResult) mvcResult.getModelAndView().getModel().get("result");
+        assertEquals(3, result.enrolled());
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("Should reject input that is not a student ID")
+    void bulkEnroll_InvalidToken_ShowsError() throws Exception {
+        seedStudents(1);
+        mockMvc.perform(post("/course/" + course.getId() + "/enrollments/bulk")
+                        .param("studentIds", studentIds.get(0) + " abc")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("error", "Not a student ID: abc"))
+                .andExpect(model().attributeDoesNotExist("result"));
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    @DisplayName("Student should not be able to bulk enroll")
+    void bulkEnroll_AsStudent_IsDenied() throws Exception {
+        mockMvc.perform(post("/course/" + course.getId() + "/enrollments/bulk")
+                        .param("departmentId", department.getId().toString())
+                        .with(csrf()))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,165 @@
+package com.sheikhgalib.store.integration;
+
+import com.sheikhgalib.store.dto.EnrollmentOutcome;
+import com.sheikhgalib.store.entity.Course;
+import com.sheikhgalib.store.entity.Enrollment;
+import com.sheikhgalib.store.entity.EnrollmentStatus;
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.repository.CourseRepository;
+import com.sheikhgalib.store.repository.EnrollmentRepository;
+import com.sheikhgalib.store.repository.StudentRepository;
+import com.sheikhgalib.store.service.EnrollmentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for EnrollmentService
+ * Not transactional: each service call commits so the statements it issues can be counted.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EnrollmentServiceIntegrationTest {
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Student student;
+    private final List<Course> courses = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Student newStudent = new Student();
+        newStudent.setFirstName("Enrolling");
+        newStudent.setLastName("Student");
+        newStudent.setEmail("enrolling@enrollment.test");
+        newStudent.setStudentId("ENR001");
+        student = studentRepository.save(newStudent);
+
+        for (int i = 0; i < 5; i++) {
+            Course course = new Course();
+            course.setName("Enrollment Course " + i);
+            course.setCourseCode("ENR10" + i);
+            courses.add(courseRepository.save(course));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        studentRepository.deleteById(student.getId());
+        courses.forEach(course -> courseRepository.deleteById(course.getId()));
+    }
+
+    @Test
+    @DisplayName("Should enroll with a single INSERT regardless of existing enrollments")
+    void enroll_WithExistingEnrollments_InsertsOneRow() {
+        // Arrange
+        for (int i = 0; i < 4; i++) {
+            enrollmentService.enroll(student.getId(), courses.get(i).getId());
+        }
+        statistics.clear();
+
+        // Act
+        EnrollmentOutcome outcome = enrollmentService.enroll(student.getId(), courses.get(4).getId());
+
+        // Assert
+        assertEquals(EnrollmentOutcome.ENROLLED, outcome);
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityDeleteCount());
+        assertEquals(6, statistics.getPrepareStatementCount(), "key, capacity and waitlist lookups, insert and both page versions");
+        assertEquals(5, enrollmentService.getEnrollmentsForStudent(student.getId()).size());
+    }
+
+    @Test
+    @DisplayName("Should unenroll with a single DELETE")
+    void unenroll_Enrolled_DeletesOneRow() {
+        // Arrange
+        for (Course course : courses) {
+            enrollmentService.enroll(student.getId(), course.getId());
+        }
+        statistics.clear();
+
+        // Act
+        boolean removed = enrollmentService.unenroll(student.getId(), courses.get(0).getId());
+
+        // Assert
+        assertTrue(removed);
+        assertEquals(4, statistics.getPrepareStatementCount(), "delete, capacity lookup and both page versions");
+        assertEquals(4, enrollmentService.getEnrollmentsForStudent(student.getId()).size());
+    }
+
+    @Test
+    @DisplayName("Should skip a duplicate enrollment")
+    void enroll_Twice_KeepsOneRow() {
+        // Act
+        assertEquals(EnrollmentOutcome.ENROLLED, enrollmentService.enroll(student.getId(), courses.get(0).getId()));
+        assertEquals(EnrollmentOutcome.ALREADY_ENROLLED, enrollmentService.enroll(student.getId(), courses.get(0).getId()));
+
+        // Assert
+        assertEquals(1, enrollmentService.getEnrollmentsForCourse(courses.get(0).getId()).size());
+    }
+
+    @Test
+    @DisplayName("Should store the enrollment date and status")
+    void enroll_NewEnrollment_IsActiveWithDate() {
+        // Act
+        enrollmentService.enroll(student.getId(), courses.get(0).getId());
+        enrollmentService.updateStatus(student.getId(), courses.get(0).getId(), EnrollmentStatus.COMPLETED);
+
+        // Assert
+        Enrollment enrollment = enrollmentService.getEnrollmentsForStudent(student.getId()).get(0);
+        assertNotNull(enrollment.getEnrolledAt());
+        assertEquals(EnrollmentStatus.COMPLETED, enrollment.getStatus());
+        assertEquals("ENR100", enrollment.getCourse().getCourseCode());
+    }
+
+    @Test
+    @DisplayName("Should remove enrollments when the student is deleted")
+    void deleteStudent_WithEnrollments_CascadesInDatabase() {
+        // Arrange
+        enrollmentService.enroll(student.getId(), courses.get(0).getId());
+
+        // Act
+        studentRepository.deleteById(student.getId());
+
+        // Assert
+        assertTrue(enrollmentRepository.findByCourseIdWithStudent(courses.get(0).getId()).isEmpty());
+        student = studentRepository.save(recreateStudent());
+    }
+
+    private static Student recreateStudent() {
+        Student newStudent = new Student();
+        newStudent.setFirstName("Enrolling");
+        newStudent.setLastName("Student");
+        newStudent.setEmail("enrolling@enrollment.test");
+        newStudent.setStudentId("ENR001");
+        return newStudent;
+    }
+}
@@ -0,0 +1,142 @@
+package com.sheikhgalib.store.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sheikhgalib.store.entity.Course;
+import com.sheikhgalib.store.entity.Department;
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.entity.Teacher;
+import com.sheikhgalib.store.repository.CourseRepository;
+import com.sheikhgalib.store.repository.DepartmentRepository;
+import com.sheikhgalib.store.repository.StudentRepository;
+import com.sheikhgalib.store.repository.TeacherRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for ExportController
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+class ExportControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @BeforeEach
+    void setUp() {
+        courseRepository.deleteAll();
+        studentRepository.deleteAll();
+        teacherRepository.deleteAll();
+        departmentRepository.deleteAll();
+
+        Department department = new Department();
+        department.setName("Export Department");
+        department = departmentRepository.save(department);
+
+        Student student = new Student();
+        student.setFirstName("Export");
+        student.setLastName("Student, Jr.");
+        student.setEmail("export.student@test.com");
+        student.setStudentId("EXP001");
+        student.setDepartment(department);
+        studentRepository.save(student);
+
+        Teacher teacher = new Teacher();
+        teacher.setFirstName("Export");
+        teacher.setLastName("Teacher");
+        teacher.setEmail("export.teacher@test.com");
+        teacher.setDepartment(department);
+        teacher = teacherRepository.save(teacher);
+
+        Course course = new Course();
+        course.setName("Exporting");
+        course.setCourseCode("EXP101");
+        course.setCredits(3);
+        course.setDepartment(department);
+        course.setTeacher(teacher);
+        courseRepository.save(course);
+    }
+
+    @Test
+    @DisplayName("Should stream students as CSV with a header row")
+    @WithMockUser(roles = "ADMIN")
+    void exportStudents_Csv_WritesHeaderAndRows() throws Exception {
+        mockMvc.perform(get("/export/students"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition", containsString("students.csv")))
+                .andExpect(content().string(startsWith("id,firstName,lastName,email,studentId,phone,department\r\n")))
+                .andExpect(content().string(containsString(",Export,\"Student, Jr.\",export.student@test.com,EXP001,,Export Department\r\n")));
+    }
+
+    @Test
+    @DisplayName("Should stream courses as newline-delimited JSON")
+    @WithMockUser(roles = "TEACHER")
+    void exportCourses_Ndjson_WritesOneObjectPerLine() throws Exception {
+        String body = mockMvc.perform(get("/export/courses").param("format", "ndjson"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(1, lines.length);
+        JsonNode course = new ObjectMapper().readTree(lines[0]);
+        assertEquals("EXP101", course.get("courseCode").asText());
+        assertEquals(3, course.get("credits").asInt());
+        assertEquals("Export Teacher", course.get("teacher").asText());
+        assertTrue(course.get("description").isNull());
+    }
+
+    @Test
+    @DisplayName("Should export teachers as CSV")
+    @WithMockUser(roles = "ADMIN")
+    void exportTeachers_Csv_WritesRows() throws Exception {
+        mockMvc.perform(get("/export/teachers").param("format", "csv"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("export.teacher@test.com")));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown export formats")
+    @WithMockUser(roles = "ADMIN")
+    void exportStudents_UnknownFormat_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/export/students").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should deny exports to students")
+    @WithMockUser(roles = "STUDENT")
+    void exportStudents_StudentRole_DeniesAccess() throws Exception {
+        mockMvc.perform(get("/export/students"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,248 @@
+package com.sheikhgalib.store.integration;
+
+import com.sheikhgalib.store.entity.Course;
+import com.sheikhgalib.store.entity.Department;
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.entity.Teacher;
+import com.sheikhgalib.store.repository.CourseRepository;
+import com.sheikhgalib.store.repository.DepartmentRepository;
+import com.sheikhgalib.store.repository.StudentRepository;
+import com.sheikhgalib.store.repository.TeacherRepository;
+import com.sheikhgalib.store.service.CourseService;
+import com.sheikhgalib.store.service.EnrollmentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.sheikhgalib.store.repository.QueryCounter.assertAtMost;
+import static com.sheikhgalib.store.repository.QueryCounter.assertSameCount;
+import static com.sheikhgalib.store.repository.QueryCounter.statementsDuring;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Query budgets for the pages and API endpoints
+ * Each endpoint is requested with SMALL and then LARGE rows behind it and must
+ * run the same number of statements both times, within its budget. Every row
+ * gets its own department, teacher and course so a lazy association loaded
+ * per row shows up as extra statements. The second-level and query caches
+ * are emptied before each measured request, so the counts are their
+ * cold-cache worst case.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryCountIntegrationTest {
+
+    // Both stay below the page size, so the page grows with the data
+    private static final int SMALL = 2;
+    private static final int LARGE = 12;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Department> departments = new ArrayList<>();
+    private final List<Teacher> teachers = new ArrayList<>();
+    private final List<Course> courses = new ArrayList<>();
+    private final List<Student> students = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        grow(SMALL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Long studentId = students.get(0).getId();
+        Long courseId = courses.get(0).getId();
+        courses.forEach(course -> enrollmentService.unenroll(studentId, course.getId()));
+        students.stream().skip(1).forEach(student -> enrollmentService.unenroll(student.getId(), courseId));
+        courses.forEach(course -> courseRepository.deleteById(course.getId()));
+        studentRepository.deleteAllByIdInBatch(students.stream().map(Student::getId).toList());
+        teacherRepository.deleteAllByIdInBatch(teachers.stream().map(Teacher::getId).toList());
+        departmentRepository.deleteAllByIdInBatch(departments.stream().map(Department::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should list students in a fixed number of statements")
+    void studentList() throws Throwable {
+        assertBudget(1, "STUDENT", "/student/list");
+    }
+
+    @Test
+    @DisplayName("Should stream all students in a fixed number of statements")
+    void studentListAll() throws Throwable {
+        assertBudget(1, "STUDENT", "/student/list?all=true");
+    }
+
+    @Test
+    @DisplayName("Should show a student and their enrollments in a fixed number of statements")
+    void studentView() throws Throwable {
+        assertBudget(4, "STUDENT", "/student/view/{student}");
+    }
+
+    @Test
+    @DisplayName("Should list teachers in a fixed number of statements")
+    void teacherList() throws Throwable {
+        assertBudget(1, "TEACHER", "/teacher/list");
+    }
+
+    @Test
+    @DisplayName("Should show a teacher in a fixed number of statements")
+    void teacherView() throws Throwable {
+        assertBudget(2, "TEACHER", "/teacher/view/{teacher}");
+    }
+
+    @Test
+    @DisplayName("Should list courses in a fixed number of statements")
+    void courseList() throws Throwable {
+        assertBudget(1, "TEACHER", "/course/list");
+    }
+
+    @Test
+    @DisplayName("Should show a course with its enrolled count in a fixed number of statements")
+    void courseView() throws Throwable {
+        assertBudget(3, "TEACHER", "/course/view/{course}");
+    }
+
+    @Test
+    @DisplayName("Should list departments in a fixed number of statements")
+    void departmentList() throws Throwable {
+        assertBudget(1, "TEACHER", "/department/list");
+    }
+
+    @Test
+    @DisplayName("Should show a department in a fixed number of statements")
+    void departmentView() throws Throwable {
+        assertBudget(2, "TEACHER", "/department/view/{department}");
+    }
+
+    @Test
+    @DisplayName("Should serve the student and course API lists in a fixed number of statements")
+    void apiLists() throws Throwable {
+        assertBudget(1, "ADMIN", "/api/v1/students");
+        assertBudget(1, "ADMIN", "/api/v1/students?fields=id,lastName&expand=department");
+        assertBudget(1, "ADMIN", "/api/v1/courses");
+        assertBudget(1, "ADMIN", "/api/v1/courses?all=true");
+    }
+
+    @Test
+    @DisplayName("Should serve enrollment pages in a fixed number of statements")
+    void apiEnrollments() throws Throwable {
+        assertBudget(1, "ADMIN", "/api/v1/students/{student}/enrollments");
+        assertBudget(1, "ADMIN", "/api/v1/courses/{course}/enrollments");
+    }
+
+    /**
+     * Requests the path over the SMALL data set, grows it to LARGE and
+     * requests it again; both must fit the budget with the same count.
+     */
+    private void assertBudget(int budget, String role, String pathTemplate) throws Throwable {
+        List<String> smaller = statements(role, pathTemplate);
+        assertAtMost(budget, smaller, pathTemplate);
+        int size = students.size();
+        grow(LARGE);
+        List<String> larger = statements(role, pathTemplate);
+        assertAtMost(budget, larger, pathTemplate);
+        assertSameCount(smaller, larger, pathTemplate);
+        shrink(size);
+    }
+
+    private List<String> statements(String role, String pathTemplate) throws Throwable {
+        String path = pathTemplate
+                .replace("{student}", String.valueOf(students.get(0).getId()))
+                .replace("{teacher}", String.valueOf(teachers.get(0).getId()))
+                .replace("{course}", String.valueOf(courses.get(0).getId()))
+                .replace("{department}", String.valueOf(departments.get(0).getId()));
+        // One unmeasured request settles the application's own caches, e.g. waitlist positions
+        mockMvc.perform(get(path).with(user("budget").roles(role))).andExpect(status().isOk());
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        return statementsDuring(() -> mockMvc.perform(get(path).with(user("budget").roles(role)))
+                .andExpect(status().isOk()));
+    }
+
+    /** Adds rows until there are {@code size} of each; the first student takes every course. */
+    private void grow(int size) {
+        for (int i = students.size(); i < size; i++) {
+            Department department = new Department();
+            department.setName("Budget Department " + i);
+            departments.add(departmentRepository.save(department));
+
+            Teacher teacher = new Teacher();
+            teacher.setFirstName("Budget");
+            teacher.setLastName("Teacher" + i);
+            teacher.setEmail("teacher" + i + "@budget.test");
+            teacher.setDepartment(department);
+            teachers.add(teacherRepository.save(teacher));
+
+            Course course = new Course();
+            course.setName("Budget Course " + i);
+            course.setCourseCode("BUDGET" + i);
+            course.setCapacity(LARGE);
+            course.setDepartment(department);
+            course.setTeacher(teacher);
+            courses.add(courseService.saveCourse(course));
+
+            Student student = new Student();
+            student.setFirstName("Budget");
+            student.setLastName("Student" + i);
+            student.setEmail("student" + i + "@budget.test");
+            student.setDepartment(department);
+            students.add(studentRepository.save(student));
+        }
+        Long firstStudent = students.get(0).getId();
+        Long firstCourse = courses.get(0).getId();
+        courses.forEach(course -> enrollmentService.enroll(firstStudent, course.getId()));
+        students.forEach(student -> enrollmentService.enroll(student.getId(), firstCourse));
+    }
+
+    /** Removes rows past {@code size}, so the next assertion starts from the small data set again. */
+    private void shrink(int size) {
+        Long firstStudent = students.get(0).getId();
+        Long firstCourse = courses.get(0).getId();
+        while (students.size() > size) {
+            int last = students.size() - 1;
+            Long courseId = courses.remove(last).getId();
+            Long studentId = students.remove(last).getId();
+            enrollmentService.unenroll(firstStudent, courseId);
+            enrollmentService.unenroll(studentId, firstCourse);
+            courseRepository.deleteById(courseId);
+            studentRepository.deleteById(studentId);
+            teacherRepository.deleteById(teachers.remove(last).getId());
+            departmentRepository.deleteById(departments.remove(last).getId());
+        }
+    }
+}
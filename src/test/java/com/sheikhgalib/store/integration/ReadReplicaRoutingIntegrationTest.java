@@ -0,0 +1,69 @@
+package com.sheikhgalib.store.integration;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for read/write routing
+ * The replica is the test database reached through a separate "replica" login,
+ * so both pools see the same schema but report different users.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadReplicaRoutingIntegrationTest.REPLICA_URL,
+        "store.datasource.replicas[0].url=" + ReadReplicaRoutingIntegrationTest.REPLICA_URL,
+        "store.datasource.replicas[0].username=replica",
+        "store.datasource.replicas[0].password="
+})
+@ActiveProfiles("test")
+class ReadReplicaRoutingIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @BeforeAll
+    static void createReplicaUser() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE USER IF NOT EXISTS replica PASSWORD '' ADMIN");
+        }
+    }
+
+    @Test
+    @DisplayName("Should run read-only transactions on the replica")
+    void readOnlyTransaction_UsesReplica() {
+        assertEquals("REPLICA", currentUser(true));
+    }
+
+    @Test
+    @DisplayName("Should run read-write transactions on the primary")
+    void readWriteTransaction_UsesPrimary() {
+        assertEquals("SA", currentUser(false));
+    }
+
+    private String currentUser(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status ->
+                (String) entityManager.createNativeQuery("SELECT CURRENT_USER").getSingleResult());
+    }
+}
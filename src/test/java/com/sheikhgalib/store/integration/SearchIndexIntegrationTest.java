@@ -0,0 +1,195 @@
+package com.sheikhgalib.store.integration;
+
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.entity.Teacher;
+import com.sheikhgalib.store.repository.StudentRepository;
+import com.sheikhgalib.store.repository.TeacherRepository;
+import com.sheikhgalib.store.search.SearchIndex;
+import com.sheikhgalib.store.search.SearchIndexRebuilder;
+import com.sheikhgalib.store.search.SearchResult;
+import com.sheikhgalib.store.search.SearchType;
+import com.sheikhgalib.store.service.StudentService;
+import com.sheikhgalib.store.service.TeacherService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumSet;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for keeping the search index in sync with Hibernate writes
+ * Not transactional: the index is only updated after commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SearchIndexIntegrationTest {
+
+    private static final EnumSet<SearchType> ALL = EnumSet.allOf(SearchType.class);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private SearchIndexRebuilder searchIndexRebuilder;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        studentRepository.findByEmail("zephyrine@search.test").ifPresent(studentRepository::delete);
+        teacherRepository.findByEmail("quillon@search.test").ifPresent(teacherRepository::delete);
+    }
+
+    @Test
+    @DisplayName("Should index a student once the insert commits")
+    void saveStudent_Committed_IsSearchable() {
+        // Act
+        Student student = studentService.saveStudent(student("Zephyrine"));
+        searchIndex.refresh();
+
+        // Assert
+        assertEquals(student.getId(), searchIndex.search("zephyrine", ALL, 10).hits().get(0).id());
+        assertEquals(1, searchIndex.search("zephyrine@search.test", ALL, 10).totalHits());
+    }
+
+    @Test
+    @DisplayName("Should reindex a student when the name changes")
+    void saveStudent_Renamed_ReplacesIndexedName() {
+        // Arrange
+        Student student = studentService.saveStudent(student("Zephyrine"));
+
+        // Act
+        student.setLastName("Renamedtwice");
+        studentService.saveStudent(student);
+        searchIndex.refresh();
+
+        // Assert
+        assertEquals(1, searchIndex.search("renamedtwice", ALL, 10).totalHits());
+        assertEquals(0, searchIndex.search("searchable", ALL, 10).totalHits());
+    }
+
+    @Test
+    @DisplayName("Should drop a student from the index when it is deleted")
+    void deleteStudent_Committed_IsRemoved() {
+        // Arrange
+        Student student = studentService.saveStudent(student("Zephyrine"));
+
+        // Act
+        studentService.deleteStudent(student.getId());
+        searchIndex.refresh();
+
+        // Assert
+        assertEquals(0, searchIndex.search("zephyrine", ALL, 10).totalHits());
+    }
+
+    @Test
+    @DisplayName("Should not index a rolled-back insert")
+    void saveStudent_RolledBack_IsNotSearchable() {
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            studentService.saveStudent(student("Zephyrine"));
+            status.setRollbackOnly();
+        });
+        searchIndex.refresh();
+
+        // Assert
+        assertEquals(0, searchIndex.search("zephyrine", ALL, 10).totalHits());
+    }
+
+    @Test
+    @DisplayName("Should restore documents when the index is rebuilt")
+    void rebuild_AfterDeleteAll_RestoresDocuments() {
+        // Arrange
+        studentService.saveStudent(student("Zephyrine"));
+        searchIndex.deleteAll();
+        searchIndex.refresh();
+
+        // Act
+        searchIndexRebuilder.rebuild();
+
+        // Assert
+        assertEquals(1, searchIndex.search("zephyrine", ALL, 10).totalHits());
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("Should render ranked results on the search page")
+    void searchPage_AsTeacher_ShowsMatches() throws Exception {
+        // Arrange
+        studentService.saveStudent(student("Zephyrine"));
+        teacherService.saveTeacher(teacher());
+        searchIndex.refresh();
+
+        // Act & Assert
+        MvcResult result = mockMvc.perform(get("/search").param("q", "searchable"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("search/results"))
+                .andExpect(content().string(containsString("Zephyrine Searchable")))
+                .andReturn();
+        assertEquals(2, ((SearchResult) result.getModelAndView().getModel().get("result")).totalHits());
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    @DisplayName("Should hide teachers from students on the search page")
+    void searchPage_AsStudent_HidesTeachers() throws Exception {
+        // Arrange
+        teacherService.saveTeacher(teacher());
+        searchIndex.refresh();
+
+        // Act & Assert
+        MvcResult result = mockMvc.perform(get("/search").param("q", "quillon"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(0, ((SearchResult) result.getModelAndView().getModel().get("result")).totalHits());
+    }
+
+    private static Student student(String firstName) {
+        Student student = new Student();
+        student.setFirstName(firstName);
+        student.setLastName("Searchable");
+        student.setEmail("zephyrine@search.test");
+        student.setStudentId("SRCH001");
+        return student;
+    }
+
+    private static Teacher teacher() {
+        Teacher teacher = new Teacher();
+        teacher.setFirstName("Quillon");
+        teacher.setLastName("Searchable");
+        teacher.setEmail("quillon@search.test");
+        teacher.setEmployeeId("TSRCH01");
+        return teacher;
+    }
+}
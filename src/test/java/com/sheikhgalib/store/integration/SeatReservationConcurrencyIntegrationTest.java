@@ -0,0 +1,251 @@
+package com.sheikhgalib.store.integration;
+
+import com.sheikhgalib.store.dto.EnrollmentOutcome;
+import com.sheikhgalib.store.entity.Course;
+import com.sheikhgalib.store.entity.SeatStripeId;
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.repository.CourseRepository;
+import com.sheikhgalib.store.repository.EnrollmentRepository;
+import com.sheikhgalib.store.repository.SeatStripeRepository;
+import com.sheikhgalib.store.repository.StudentRepository;
+import com.sheikhgalib.store.service.CourseService;
+import com.sheikhgalib.store.service.EnrollmentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Concurrency stress tests for seat reservation.
+ * 500 threads enroll at once; every call commits, so the database sees real contention.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SeatReservationConcurrencyIntegrationTest {
+
+    private static final int ENROLLERS = 500;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private SeatStripeRepository seatStripeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Course course;
+    private List<Long> studentIds;
+
+    @BeforeEach
+    void setUp() {
+        course = new Course();
+        course.setName("Popular Course");
+        course.setCourseCode("HOT101");
+        course = courseService.saveCourse(course);
+
+        List<Student> students = new ArrayList<>(ENROLLERS);
+        for (int i = 0; i < ENROLLERS; i++) {
+            Student student = new Student();
+            student.setFirstName("Eager");
+            student.setLastName("Student" + i);
+            student.setEmail("eager" + i + "@seats.test");
+            students.add(student);
+        }
+        studentIds = studentRepository.saveAll(students).stream().map(Student::getId).toList();
+    }
+
+    @AfterEach
+    void tearDown() {
+        courseRepository.deleteById(course.getId());
+        studentRepository.deleteAllByIdInBatch(studentIds);
+    }
+
+    @Test
+    @DisplayName("Should never overbook when 500 students race for 100 seats")
+    void enroll_500RacingFor100Seats_FillsExactlyCapacity() throws Exception {
+        // Arrange
+        setCapacity(100);
+
+        // Act
+        Map<EnrollmentOutcome, Integer> outcomes = race(i -> enrollmentService.enroll(studentIds.get(i), course.getId()));
+
+        // Assert
+        assertEquals(100, outcomes.getOrDefault(EnrollmentOutcome.ENROLLED, 0));
+        assertEquals(400, outcomes.getOrDefault(EnrollmentOutcome.COURSE_FULL, 0));
+        assertEquals(100, enrollmentRepository.countByIdCourseId(course.getId()));
+        assertEquals(100, seatStripeRepository.sumTaken(course.getId()));
+    }
+
+    @Test
+    @DisplayName("Should enroll 500 parallel students when there is room")
+    void enroll_500ParallelWithRoom_EnrollsEveryone() throws Exception {
+        // Arrange
+        setCapacity(ENROLLERS);
+
+        // Act
+        Map<EnrollmentOutcome, Integer> outcomes = race(i -> enrollmentService.enroll(studentIds.get(i), course.getId()));
+
+        // Assert
+        assertEquals(ENROLLERS, outcomes.getOrDefault(EnrollmentOutcome.ENROLLED, 0));
+        assertEquals(ENROLLERS, enrollmentRepository.countByIdCourseId(course.getId()));
+        assertEquals(ENROLLERS, seatStripeRepository.sumTaken(course.getId()));
+    }
+
+    @Test
+    @DisplayName("Should keep seats and enrollments in step while students enroll and drop at once")
+    void enrollAndUnenroll_Concurrently_KeepsCountsConsistent() throws Exception {
+        // Arrange
+        setCapacity(150);
+        for (int i = 0; i < 150; i++) {
+            enrollmentService.enroll(studentIds.get(i), course.getId());
+        }
+
+        // Act: the first 150 drop out while the other 350 try to take their seats
+        race(i -> {
+            if (i < 150) {
+                enrollmentService.unenroll(studentIds.get(i), course.getId());
+                return null;
+            }
+            return enrollmentService.enroll(studentIds.get(i), course.getId());
+        });
+
+        // Assert
+        long enrolled = enrollmentRepository.countByIdCourseId(course.getId());
+        assertTrue(enrolled <= 150, "overbooked: " + enrolled);
+        assertEquals(enrolled, seatStripeRepository.sumTaken(course.getId()));
+    }
+
+    @Test
+    @DisplayName("Should keep the stripes when a course is saved with the same capacity")
+    void saveCourse_SameCapacity_KeepsStripes() {
+        // Arrange
+        setCapacity(100);
+        enrollmentService.enroll(studentIds.get(0), course.getId());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        course.setName("Renamed Course");
+        course = courseService.saveCourse(course);
+
+        // Assert
+        assertEquals(0, statistics.getEntityDeleteCount());
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(1, seatStripeRepository.sumTaken(course.getId()));
+    }
+
+    @Test
+    @DisplayName("Should refuse to enroll when a course with a capacity has lost its stripes")
+    void enroll_CapacityWithoutStripes_Fails() {
+        // Arrange
+        setCapacity(1);
+        seatStripeRepository.deleteById(new SeatStripeId(course.getId(), 0));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> enrollmentService.enroll(studentIds.get(0), course.getId()));
+        assertEquals(0, enrollmentRepository.countByIdCourseId(course.getId()));
+    }
+
+    @Test
+    @DisplayName("Should not overbook when another instance gave a cached unlimited course a capacity")
+    void enroll_CapacitySetElsewhere_RespectsCapacity() {
+        // Arrange: written past Hibernate, so this node's cached course still has no capacity
+        courseRepository.findById(course.getId());
+        jdbcTemplate.update("update courses set capacity = 1 where id = ?", course.getId());
+        jdbcTemplate.update("insert into seat_stripes (course_id, stripe, seats, taken) values (?, 0, 1, 0)", course.getId());
+
+        // Act
+        EnrollmentOutcome first = enrollmentService.enroll(studentIds.get(0), course.getId());
+        EnrollmentOutcome second = enrollmentService.enroll(studentIds.get(1), course.getId());
+
+        // Assert
+        assertEquals(EnrollmentOutcome.ENROLLED, first);
+        assertEquals(EnrollmentOutcome.COURSE_FULL, second);
+        assertEquals(1, enrollmentRepository.countByIdCourseId(course.getId()));
+    }
+
+    @Test
+    @DisplayName("Should enroll freely when another instance removed the capacity of a cached course")
+    void enroll_CapacityRemovedElsewhere_EnrollsEveryone() {
+        // Arrange
+        setCapacity(1);
+        courseRepository.findById(course.getId());
+        jdbcTemplate.update("delete from seat_stripes where course_id = ?", course.getId());
+        jdbcTemplate.update("update courses set capacity = null where id = ?", course.getId());
+
+        // Act
+        EnrollmentOutcome first = enrollmentService.enroll(studentIds.get(0), course.getId());
+        EnrollmentOutcome second = enrollmentService.enroll(studentIds.get(1), course.getId());
+
+        // Assert
+        assertEquals(EnrollmentOutcome.ENROLLED, first);
+        assertEquals(EnrollmentOutcome.ENROLLED, second);
+    }
+
+    private void setCapacity(int capacity) {
+        course.setCapacity(capacity);
+        course = courseService.saveCourse(course);
+    }
+
+    private Map<EnrollmentOutcome, Integer> race(IntFunction<EnrollmentOutcome> action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(ENROLLERS);
+        try {
+            CountDownLatch go = new CountDownLatch(1);
+            List<Future<EnrollmentOutcome>> futures = new ArrayList<>(ENROLLERS);
+            for (int i = 0; i < ENROLLERS; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    go.await();
+                    return action.apply(index);
+                }));
+            }
+            go.countDown();
+            Map<EnrollmentOutcome, Integer> outcomes = new EnumMap<>(EnrollmentOutcome.class);
+            for (Future<EnrollmentOutcome> future : futures) {
+                EnrollmentOutcome outcome = future.get(60, TimeUnit.SECONDS);
+                if (outcome != null) {
+                    outcomes.merge(outcome, 1, Integer::sum);
+                }
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
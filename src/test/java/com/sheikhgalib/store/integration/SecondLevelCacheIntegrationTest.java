@@ -0,0 +1,174 @@
+package com.sheikhgalib.store.integration;
+
+import com.sheikhgalib.store.entity.Course;
+import com.sheikhgalib.store.entity.Department;
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.repository.CourseRepository;
+import com.sheikhgalib.store.repository.DepartmentRepository;
+import com.sheikhgalib.store.repository.StudentRepository;
+import com.sheikhgalib.store.service.CourseService;
+import com.sheikhgalib.store.service.DepartmentService;
+import com.sheikhgalib.store.service.EnrollmentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the Hibernate second-level cache
+ * Not transactional: cache entries are only published on commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Department department;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        // The JCache regions are shared by every test context in the JVM, and ids from other
+        // contexts' databases overlap with ours; drop their entries and version locks first
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        department = new Department();
+        department.setName("Cached Department");
+        department = departmentService.saveDepartment(department);
+
+        Course course = new Course();
+        course.setName("Cached Course");
+        course.setCourseCode("CACHE101");
+        course.setDepartment(department);
+        courseService.saveCourse(course);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        courseRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Repeated department list loads should be served from the query cache")
+    void getAllDepartments_Repeated_DoesNotHitDatabase() {
+        departmentService.getAllDepartments();
+        statistics.clear();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(1, departmentService.getAllDepartments().size());
+        }
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(5, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    @DisplayName("Saving a department should invalidate the cached list")
+    void getAllDepartments_AfterSave_SeesNewDepartment() {
+        assertEquals(1, departmentService.getAllDepartments().size());
+
+        Department another = new Department();
+        another.setName("Another Cached Department");
+        departmentService.saveDepartment(another);
+
+        assertEquals(2, departmentService.getAllDepartments().size());
+    }
+
+    @Test
+    @DisplayName("Entity and natural-id lookups should be served from the second-level cache")
+    void naturalIdAndIdLookups_Repeated_HitCache() {
+        departmentRepository.findByName("Cached Department");
+        courseRepository.findByCourseCode("CACHE101");
+        statistics.clear();
+
+        assertTrue(departmentRepository.findByName("Cached Department").isPresent());
+        assertTrue(courseRepository.findByCourseCode("CACHE101").isPresent());
+        assertTrue(departmentService.getDepartmentById(department.getId()).isPresent());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getNaturalIdCacheHitCount() >= 2);
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 3);
+    }
+
+    @Test
+    @DisplayName("Enrolling should bump the course page version without evicting cached courses")
+    void enroll_CachedCourse_StaysCached() {
+        Course course = courseRepository.findByCourseCode("CACHE101").orElseThrow();
+        Student student = new Student();
+        student.setFirstName("Cached");
+        student.setLastName("Student");
+        student.setEmail("cached.student@cache.test");
+        student = studentRepository.save(student);
+        String before = courseService.getViewVersion(course.getId()).orElseThrow();
+
+        enrollmentService.enroll(student.getId(), course.getId());
+        statistics.clear();
+
+        assertTrue(courseRepository.findByCourseCode("CACHE101").isPresent());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertNotEquals(before, courseService.getViewVersion(course.getId()).orElseThrow());
+        enrollmentService.unenroll(student.getId(), course.getId());
+        studentRepository.deleteById(student.getId());
+    }
+
+    @Test
+    @DisplayName("Should expose cache statistics to administrators")
+    @WithMockUser(roles = "ADMIN")
+    void cacheStatistics_Admin_ReturnsRegions() throws Exception {
+        departmentService.getAllDepartments();
+
+        mockMvc.perform(get("/admin/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statisticsEnabled").value(true))
+                .andExpect(jsonPath("$.regions.departments.hits").exists())
+                .andExpect(jsonPath("$.queryCache.hitRatio").isNumber());
+    }
+
+    @Test
+    @DisplayName("Should deny cache statistics to non-administrators")
+    @WithMockUser(roles = "TEACHER")
+    void cacheStatistics_Teacher_DeniesAccess() throws Exception {
+        mockMvc.perform(get("/admin/cache/stats"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,86 @@
+package com.sheikhgalib.store.integration;
+
+import com.sheikhgalib.store.assets.AssetManifest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the fingerprinted static assets
+ * Relies on the asset pipeline having run in process-classes.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StaticAssetsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AssetManifest assetManifest;
+
+    private String scriptUrl;
+
+    @BeforeEach
+    void setUp() {
+        assertFalse(assetManifest.isEmpty(), "asset pipeline did not run");
+        scriptUrl = assetManifest.url("js/typeahead.js");
+    }
+
+    @Test
+    @DisplayName("Should link templates to the fingerprinted file")
+    @WithMockUser(roles = "TEACHER")
+    void courseForm_LinksFingerprintedScript() throws Exception {
+        assertTrue(scriptUrl.matches("/assets/js/typeahead-[0-9a-f]{16}\\.js"));
+
+        mockMvc.perform(get("/course/create"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("src=\"" + scriptUrl + "\"")));
+    }
+
+    @Test
+    @DisplayName("Should serve assets as immutable without authentication or a session")
+    void asset_Anonymous_ServedImmutable() throws Exception {
+        MvcResult result = mockMvc.perform(get(scriptUrl))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"))
+                .andExpect(header().doesNotExist("Set-Cookie"))
+                .andExpect(header().string("Content-Type", containsString("javascript")))
+                .andReturn();
+
+        assertNull(result.getRequest().getSession(false));
+    }
+
+    @Test
+    @DisplayName("Should serve the precompressed file the client accepts")
+    void asset_AcceptEncoding_ServesPrecompressed() throws Exception {
+        mockMvc.perform(get(scriptUrl).header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", containsString("Accept-Encoding")));
+
+        mockMvc.perform(get(scriptUrl).header("Accept-Encoding", "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "br"));
+    }
+
+    @Test
+    @DisplayName("Should not serve unfingerprinted names under the immutable path")
+    void asset_LogicalName_NotFound() throws Exception {
+        mockMvc.perform(get("/assets/js/typeahead.js"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,109 @@
+package com.sheikhgalib.store.integration;
+
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.pagination.KeysetCursor;
+import com.sheikhgalib.store.repository.StudentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for rendering a whole list in one response
+ * Not transactional: chunks clear the request's persistence context.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StreamingListIntegrationTest {
+
+    private static final Pattern VIEW_LINK = Pattern.compile("/student/view/(\\d+)\"");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private List<Student> students;
+
+    @BeforeEach
+    void setUp() {
+        students = new ArrayList<>();
+        for (int i = 0; i < KeysetCursor.CHUNK_SIZE + 120; i++) {
+            Student student = new Student();
+            student.setFirstName("Streamed");
+            student.setLastName(String.format("Row%04d", i));
+            student.setEmail("streamed" + i + "@stream.test");
+            students.add(student);
+        }
+        students = studentRepository.saveAll(students);
+    }
+
+    @AfterEach
+    void tearDown() {
+        studentRepository.deleteAllInBatch(students);
+    }
+
+    @Test
+    @DisplayName("Should render every student, one chunk query at a time")
+    @WithMockUser(roles = "STUDENT")
+    void listStudents_All_RendersEveryRowInChunks() throws Exception {
+        // Arrange
+        long total = studentRepository.count();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        String html = mockMvc.perform(get("/student/list").param("all", "true").param("sort", "lastName"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(not(containsString("No students found"))))
+                .andExpect(content().string(not(containsString("Show All"))))
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = VIEW_LINK.matcher(html);
+        while (matcher.find()) {
+            ids.add(Long.valueOf(matcher.group(1)));
+        }
+        assertEquals(total, ids.size());
+        assertEquals(total, ids.stream().distinct().count());
+        assertEquals((total + KeysetCursor.CHUNK_SIZE - 1) / KeysetCursor.CHUNK_SIZE, statistics.getPrepareStatementCount());
+        int first = ids.indexOf(students.get(0).getId());
+        assertEquals(students.stream().map(Student::getId).toList(), ids.subList(first, first + students.size()));
+    }
+
+    @Test
+    @DisplayName("Should keep the paged view capped and offer the full list")
+    @WithMockUser(roles = "STUDENT")
+    void listStudents_Paged_OffersShowAll() throws Exception {
+        mockMvc.perform(get("/student/list"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("all=true")))
+                .andExpect(content().string(containsString("Next")));
+    }
+}
@@ -0,0 +1,159 @@
+package com.sheikhgalib.store.integration;
+
+import com.sheikhgalib.store.dto.StudentImportResult;
+import com.sheikhgalib.store.entity.Department;
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.repository.DepartmentRepository;
+import com.sheikhgalib.store.repository.StudentRepository;
+import com.sheikhgalib.store.service.StudentImportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * Integration tests for StudentImportService
+ * Chunks are committed in their own transactions, so these tests are not
+ * transactional and clean up after themselves.
+ */
+@SpringBootTest(properties = "store.import.chunk-size=2")
+@ActiveProfiles("test")
+class StudentImportServiceIntegrationTest {
+
+    @Autowired
+    private StudentImportService studentImportService;
+
+    @SpyBean
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        Department department = new Department();
+        department.setName("Computer Science");
+        departmentRepository.save(department);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        studentRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should import valid rows across several chunks and resolve departments by name")
+    void importStudents_ValidFile_ImportsAllRows() throws IOException {
+        String csv = """
+                firstName,lastName,email,studentId,phone,department
+                Ada,Lovelace,ada@test.com,S1,111,Computer Science
+                Alan,Turing,alan@test.com,S2,,computer science
+                Grace,Hopper,grace@test.com,,,
+                """;
+
+        StudentImportResult result = studentImportService.importStudents(new StringReader(csv));
+
+        assertEquals(3, result.getTotalRows());
+        assertEquals(3, result.getImportedRows());
+        assertEquals(0, result.getFailedRows());
+        Student alan = studentRepository.findByEmail("alan@test.com").orElseThrow();
+        assertEquals("S2", alan.getStudentId());
+        assertNull(alan.getPhone());
+        assertEquals(2, studentRepository.findAll().stream().filter(s -> s.getDepartment() != null).count());
+    }
+
+    @Test
+    @DisplayName("Should report invalid, duplicate and unknown-department rows by line")
+    void importStudents_InvalidRows_ReportsErrors() throws IOException {
+        String csv = """
+                email,firstName,lastName,department
+                ok@test.com,Valid,Row,
+                not-an-email,Bad,Email,
+                ok@test.com,Duplicate,InFile,
+                other@test.com,,MissingFirst,
+                dept@test.com,Unknown,Dept,Astrology
+                """;
+
+        StudentImportResult result = studentImportService.importStudents(new StringReader(csv));
+
+        assertEquals(5, result.getTotalRows());
+        assertEquals(1, result.getImportedRows());
+        assertEquals(4, result.getFailedRows());
+        List<Long> lines = result.getErrors().stream().map(StudentImportResult.RowError::line).toList();
+        assertEquals(List.of(3L, 4L, 5L, 6L), lines);
+        assertTrue(result.getErrors().get(0).message().contains("email"));
+        assertTrue(result.getErrors().get(1).message().startsWith("Duplicate email"));
+        assertTrue(result.getErrors().get(3).message().contains("Unknown department"));
+        assertEquals(1, studentRepository.count());
+    }
+
+    @Test
+    @DisplayName("Should reject files without the required header columns")
+    void importStudents_MissingColumns_RejectsFile() throws IOException {
+        StudentImportResult result = studentImportService.importStudents(new StringReader("name,mail\nx,y\n"));
+
+        assertEquals(0, result.getImportedRows());
+        assertEquals(1, result.getFailedRows());
+        assertEquals(0, studentRepository.count());
+    }
+
+    @Test
+    @DisplayName("Should fall back to row-by-row inserts when a concurrent writer takes an email after the check")
+    void importStudents_ConcurrentDuplicate_ImportsTheOtherRows() throws IOException {
+        Student existing = new Student();
+        existing.setFirstName("Already");
+        existing.setLastName("There");
+        existing.setEmail("taken@test.com");
+        studentRepository.save(existing);
+        // The duplicate check runs before the row is written, as if the other insert committed in between
+        doReturn(Set.of()).when(studentRepository).findExistingEmails(anyCollection());
+        String csv = """
+                email,firstName,lastName
+                fresh@test.com,Fresh,Row
+                taken@test.com,Late,Duplicate
+                """;
+
+        StudentImportResult result = studentImportService.importStudents(new StringReader(csv));
+
+        assertEquals(1, result.getImportedRows());
+        assertEquals(1, result.getFailedRows());
+        assertEquals(3L, result.getErrors().get(0).line());
+        assertTrue(studentRepository.findByEmail("fresh@test.com").isPresent());
+    }
+
+    @Test
+    @DisplayName("Should keep the rows before an unterminated quote and report it by line")
+    void importStudents_UnterminatedQuote_ReportsRowError() throws IOException {
+        String csv = """
+                email,firstName,lastName
+                a@test.com,First,Chunk
+                b@test.com,First,Chunk
+                c@test.com,Second,Chunk
+                d@test.com,"Broken,Quote
+                """;
+
+        StudentImportResult result = studentImportService.importStudents(new StringReader(csv));
+
+        assertEquals(4, result.getTotalRows());
+        assertEquals(3, result.getImportedRows());
+        assertEquals(1, result.getFailedRows());
+        assertEquals(5L, result.getErrors().get(0).line());
+        assertTrue(result.getErrors().get(0).message().startsWith("Unterminated quoted field"));
+        assertEquals(3, studentRepository.count());
+    }
+}
@@ -0,0 +1,105 @@
+package com.sheikhgalib.store.integration;
+
+import com.sheikhgalib.store.entity.Teacher;
+import com.sheikhgalib.store.repository.TeacherRepository;
+import com.sheikhgalib.store.service.TeacherService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for TypeaheadController and the course form picker
+ * Not transactional: the prefix index is only updated after commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TypeaheadControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @AfterEach
+    void tearDown() {
+        teacherRepository.findByEmail("wilhelmina@typeahead.test").ifPresent(teacherRepository::delete);
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("Should suggest a teacher saved in a committed transaction")
+    void typeahead_SavedTeacher_IsSuggested() throws Exception {
+        // Arrange
+        Teacher teacher = teacherService.saveTeacher(teacher());
+
+        // Act & Assert
+        mockMvc.perform(get("/typeahead").param("q", "wilh").param("type", "TEACHER"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(teacher.getId()))
+                .andExpect(jsonPath("$[0].type").value("TEACHER"))
+                .andExpect(jsonPath("$[0].label").value("Wilhelmina Typeahead"));
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("Should stop suggesting a deleted teacher")
+    void typeahead_DeletedTeacher_IsNotSuggested() throws Exception {
+        // Arrange
+        Teacher teacher = teacherService.saveTeacher(teacher());
+        teacherService.deleteTeacher(teacher.getId());
+
+        // Act & Assert
+        mockMvc.perform(get("/typeahead").param("q", "wilh"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    @DisplayName("Should not suggest teachers to students")
+    void typeahead_AsStudent_HidesTeachers() throws Exception {
+        // Arrange
+        teacherService.saveTeacher(teacher());
+
+        // Act & Assert
+        mockMvc.perform(get("/typeahead").param("q", "wilh").param("type", "TEACHER"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("Should render the course form without loading every teacher")
+    void createCourseForm_UsesTypeaheadPicker() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/course/create"))
+                .andExpect(status().isOk())
+                .andExpect(model().attributeDoesNotExist("teachers"))
+                .andExpect(content().string(containsString("data-typeahead=\"TEACHER\"")));
+    }
+
+    private static Teacher teacher() {
+        Teacher teacher = new Teacher();
+        teacher.setFirstName("Wilhelmina");
+        teacher.setLastName("Typeahead");
+        teacher.setEmail("wilhelmina@typeahead.test");
+        teacher.setEmployeeId("TTA001");
+        return teacher;
+    }
+}
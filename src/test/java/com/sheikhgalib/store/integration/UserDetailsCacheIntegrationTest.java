@@ -0,0 +1,114 @@
+package com.sheikhgalib.store.integration;
+
+import com.sheikhgalib.store.entity.User;
+import com.sheikhgalib.store.repository.UserRepository;
+import com.sheikhgalib.store.security.CustomUserDetailsService;
+import com.sheikhgalib.store.security.UserDetailsCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for cached UserDetails eviction
+ * Not transactional: eviction is tied to real commits.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserDetailsCacheIntegrationTest {
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        userDetailsCache.evictAll();
+
+        user = new User();
+        user.setUsername("cached");
+        user.setEmail("cached@test.com");
+        user.setPassword("first");
+        user.setRoles(new HashSet<>(Set.of("ROLE_STUDENT")));
+        user = userRepository.save(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        userDetailsCache.evictAll();
+    }
+
+    @Test
+    @DisplayName("Changing the password should evict the cached user")
+    void passwordChange_EvictsCachedUser() {
+        assertEquals("first", userDetailsService.loadUserByUsername("cached").getPassword());
+
+        user.setPassword("second");
+        user = userRepository.save(user);
+
+        assertEquals("second", userDetailsService.loadUserByUsername("cached").getPassword());
+    }
+
+    @Test
+    @DisplayName("Changing only the roles should evict the cached user")
+    void roleChange_EvictsCachedUser() {
+        userDetailsService.loadUserByUsername("cached");
+
+        user.setRoles(new HashSet<>(Set.of("ROLE_TEACHER")));
+        user = userRepository.save(user);
+
+        assertEquals(Set.of("ROLE_TEACHER"), authorities(userDetailsService.loadUserByUsername("cached")));
+    }
+
+    @Test
+    @DisplayName("Disabling the user should evict the cached user")
+    void disable_EvictsCachedUser() {
+        assertTrue(userDetailsService.loadUserByUsername("cached").isEnabled());
+
+        user.setEnabled(false);
+        user = userRepository.save(user);
+
+        assertFalse(userDetailsService.loadUserByUsername("cached").isEnabled());
+    }
+
+    @Test
+    @DisplayName("Renaming or deleting the user should evict the old username")
+    void renameAndDelete_EvictCachedUser() {
+        userDetailsService.loadUserByUsername("cached");
+
+        user.setUsername("renamed");
+        user = userRepository.save(user);
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("cached"));
+
+        userDetailsService.loadUserByUsername("renamed");
+        userRepository.delete(user);
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("renamed"));
+    }
+
+    private static Set<String> authorities(UserDetails userDetails) {
+        return userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,293 @@
+package com.sheikhgalib.store.integration;
+
+import com.sheikhgalib.store.entity.Course;
+import com.sheikhgalib.store.entity.Department;
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.entity.Teacher;
+import com.sheikhgalib.store.repository.CourseRepository;
+import com.sheikhgalib.store.repository.DepartmentRepository;
+import com.sheikhgalib.store.repository.StudentRepository;
+import com.sheikhgalib.store.repository.TeacherRepository;
+import com.sheikhgalib.store.service.CourseService;
+import com.sheikhgalib.store.service.EnrollmentService;
+import com.sheikhgalib.store.service.StudentService;
+import com.sheikhgalib.store.service.WaitlistPromoter;
+import com.sheikhgalib.store.service.WaitlistService;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.ServletException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the ETags on the view pages
+ * Not transactional: each change commits before the page is revalidated.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ViewETagIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private WaitlistPromoter waitlistPromoter;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private MockHttpSession session;
+    private Department department;
+    private Teacher teacher;
+    private Course course;
+    private Student student;
+    private Student classmate;
+    private Student ahead;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // One browser session, so the session part of the tag stays put
+        session = new MockHttpSession();
+
+        department = new Department();
+        department.setName("ETag Department");
+        department = departmentRepository.save(department);
+
+        teacher = new Teacher();
+        teacher.setFirstName("Tagged");
+        teacher.setLastName("Teacher");
+        teacher.setEmail("tagged.teacher@etag.test");
+        teacher.setDepartment(department);
+        teacher = teacherRepository.save(teacher);
+
+        course = new Course();
+        course.setName("Cached Pages");
+        course.setCourseCode("ETAG101");
+        course.setCapacity(1);
+        course.setDepartment(department);
+        course.setTeacher(teacher);
+        course = courseService.saveCourse(course);
+
+        student = newStudent("tagged");
+        classmate = newStudent("classmate");
+        ahead = newStudent("ahead");
+    }
+
+    @AfterEach
+    void tearDown() {
+        courseRepository.deleteById(course.getId());
+        studentRepository.deleteAllByIdInBatch(List.of(student.getId(), classmate.getId(), ahead.getId()));
+        teacherRepository.deleteById(teacher.getId());
+        departmentRepository.deleteById(department.getId());
+    }
+
+    @Test
+    @DisplayName("Should answer a matching If-None-Match with 304 after a single version query")
+    @WithMockUser(roles = "STUDENT")
+    void viewStudent_MatchingETag_ReturnsNotModified() throws Exception {
+        // Arrange
+        String etag = etag("/student/view/" + student.getId());
+        statistics.clear();
+
+        // Act & Assert
+        mockMvc.perform(get("/student/view/" + student.getId()).session(session).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+        assertEquals(1, statistics.getPrepareStatementCount(), "version query only");
+    }
+
+    @Test
+    @DisplayName("Should let the browser keep the page but revalidate it")
+    @WithMockUser(roles = "STUDENT")
+    void viewStudent_SetsPrivateNoCache() throws Exception {
+        mockMvc.perform(get("/student/view/" + student.getId()).session(session))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "private, no-cache"));
+    }
+
+    @Test
+    @DisplayName("Should change the student ETag when the student is edited")
+    @WithMockUser(roles = "STUDENT")
+    void viewStudent_AfterEdit_ChangesETag() throws Exception {
+        // Arrange
+        String before = etag("/student/view/" + student.getId());
+
+        // Act
+        student.setPhone("5550100");
+        student = studentService.saveStudent(student);
+
+        // Assert
+        mockMvc.perform(get("/student/view/" + student.getId()).session(session).header("If-None-Match", before))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("5550100")));
+        assertNotEquals(before, etag("/student/view/" + student.getId()));
+    }
+
+    @Test
+    @DisplayName("Should change the student ETag when waitlist positions, course names or enrollments change")
+    @WithMockUser(roles = "STUDENT")
+    void viewStudent_RelatedChanges_ChangeETag() throws Exception {
+        String path = "/student/view/" + student.getId();
+        String initial = etag(path);
+
+        enrollmentService.enroll(classmate.getId(), course.getId());
+        waitlistService.join(ahead.getId(), course.getId());
+        waitlistService.join(student.getId(), course.getId());
+        String waitlisted = etag(path);
+        assertNotEquals(initial, waitlisted);
+
+        course.setName("Renamed Course");
+        course = courseService.saveCourse(course);
+        String renamed = etag(path);
+        assertNotEquals(waitlisted, renamed);
+
+        // Moving up the line touches none of the student's own rows
+        waitlistService.leave(ahead.getId(), course.getId());
+        String movedUp = etag(path);
+        assertNotEquals(renamed, movedUp);
+
+        enrollmentService.unenroll(classmate.getId(), course.getId());
+        assertEquals(movedUp, etag(path));
+        waitlistPromoter.promote(course.getId());
+        assertNotEquals(movedUp, etag(path));
+    }
+
+    @Test
+    @DisplayName("Should tag the same student page differently per role")
+    void viewStudent_DifferentRoles_DifferentETags() throws Exception {
+        String path = "/student/view/" + student.getId();
+        String asStudent = mockMvc.perform(get(path).session(session).with(user("s").roles("STUDENT")))
+                .andReturn().getResponse().getHeader("ETag");
+        String asTeacher = mockMvc.perform(get(path).session(session).with(user("t").roles("TEACHER")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        assertNotNull(asStudent);
+        assertNotEquals(asStudent, asTeacher);
+        mockMvc.perform(get(path).session(session).with(user("t").roles("TEACHER"))
+                        .header("If-None-Match", asStudent))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should change the course ETag when the enrolled count or the teacher changes")
+    @WithMockUser(roles = "ADMIN")
+    void viewCourse_RelatedChanges_ChangeETag() throws Exception {
+        String path = "/course/view/" + course.getId();
+        String initial = etag(path);
+        mockMvc.perform(get(path).session(session).header("If-None-Match", initial)).andExpect(status().isNotModified());
+
+        enrollmentService.enroll(student.getId(), course.getId());
+        String enrolled = etag(path);
+        assertNotEquals(initial, enrolled);
+
+        teacher.setLastName("Renamed");
+        teacher = teacherRepository.save(teacher);
+        assertNotEquals(enrolled, etag(path));
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for unchanged teacher and department pages")
+    @WithMockUser(roles = "ADMIN")
+    void viewTeacherAndDepartment_Unchanged_ReturnNotModified() throws Exception {
+        for (String path : List.of("/teacher/view/" + teacher.getId(), "/department/view/" + department.getId())) {
+            String etag = etag(path);
+            mockMvc.perform(get(path).session(session).header("If-None-Match", etag))
+                    .andExpect(status().isNotModified());
+        }
+
+        String teacherETag = etag("/teacher/view/" + teacher.getId());
+        String departmentETag = etag("/department/view/" + department.getId());
+        department.setDescription("Renamed");
+        department = departmentRepository.save(department);
+        assertNotEquals(teacherETag, etag("/teacher/view/" + teacher.getId()));
+        assertNotEquals(departmentETag, etag("/department/view/" + department.getId()));
+    }
+
+    @Test
+    @DisplayName("Should reject an edit made from a stale form")
+    @WithMockUser(roles = "TEACHER")
+    void editStudent_StaleVersion_IsRejected() throws Exception {
+        // Arrange
+        long staleVersion = student.getVersion();
+        student.setPhone("5550100");
+        student = studentService.saveStudent(student);
+
+        // Act
+        ServletException thrown = assertThrows(ServletException.class, () ->
+                mockMvc.perform(post("/student/edit/" + student.getId()).session(session)
+                        .with(csrf())
+                        .param("version", String.valueOf(staleVersion))
+                        .param("firstName", "Overwritten")
+                        .param("lastName", "Student")
+                        .param("email", student.getEmail())));
+
+        // Assert
+        assertInstanceOf(ObjectOptimisticLockingFailureException.class, thrown.getCause());
+        assertEquals("tagged", studentRepository.findById(student.getId()).orElseThrow().getFirstName());
+    }
+
+    private String etag(String path) throws Exception {
+        String etag = mockMvc.perform(get(path).session(session))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(etag);
+        return etag;
+    }
+
+    private Student newStudent(String name) {
+        Student newStudent = new Student();
+        newStudent.setFirstName(name);
+        newStudent.setLastName("Student");
+        newStudent.setEmail(name + "@etag.test");
+        return studentRepository.save(newStudent);
+    }
+}
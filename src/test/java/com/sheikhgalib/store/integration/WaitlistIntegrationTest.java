@@ -0,0 +1,243 @@
+package com.sheikhgalib.store.integration;
+
+import com.sheikhgalib.store.dto.EnrollmentOutcome;
+import com.sheikhgalib.store.entity.Course;
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.entity.WaitlistEntry;
+import com.sheikhgalib.store.repository.CourseRepository;
+import com.sheikhgalib.store.repository.SeatStripeRepository;
+import com.sheikhgalib.store.repository.StudentRepository;
+import com.sheikhgalib.store.service.CourseService;
+import com.sheikhgalib.store.service.EnrollmentService;
+import com.sheikhgalib.store.service.WaitlistPromoter;
+import com.sheikhgalib.store.service.WaitlistService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for course waitlists
+ * Not transactional: promotion runs in its own transactions after the drops commit.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class WaitlistIntegrationTest {
+
+    private static final int STUDENTS = 130;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private WaitlistPromoter waitlistPromoter;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private SeatStripeRepository seatStripeRepository;
+
+    private Course course;
+    private List<Long> studentIds;
+
+    @BeforeEach
+    void setUp() {
+        course = new Course();
+        course.setName("Waitlisted Course");
+        course.setCourseCode("WAIT101");
+        course.setCapacity(2);
+        course = courseService.saveCourse(course);
+
+        List<Student> students = new ArrayList<>(STUDENTS);
+        for (int i = 0; i < STUDENTS; i++) {
+            Student student = new Student();
+            student.setFirstName("Waiting");
+            student.setLastName("Student" + i);
+            student.setEmail("waiting" + i + "@waitlist.test");
+            students.add(student);
+        }
+        studentIds = studentRepository.saveAll(students).stream().map(Student::getId).toList();
+        waitlistPromoter.promotePending();
+    }
+
+    @AfterEach
+    void tearDown() {
+        courseRepository.deleteById(course.getId());
+        studentRepository.deleteAllByIdInBatch(studentIds);
+    }
+
+    @Test
+    @DisplayName("Should promote the first student in line when someone drops")
+    void unenroll_FullCourse_PromotesHeadOfWaitlist() {
+        // Arrange
+        fill(2);
+        waitlist(2, 3, 4);
+        assertEquals(List.of(1, 2, 3), positions(2, 3, 4));
+
+        // Act
+        enrollmentService.unenroll(studentIds.get(0), course.getId());
+        int promoted = waitlistPromoter.promotePending();
+
+        // Assert
+        assertEquals(1, promoted);
+        assertTrue(enrollmentService.isEnrolled(studentIds.get(2), course.getId()));
+        assertTrue(waitlistService.getWaitlistForStudent(studentIds.get(2)).isEmpty());
+        assertEquals(List.of(1, 2), positions(3, 4));
+        assertEquals(2, waitlistService.getWaitlistSize(course.getId()));
+    }
+
+    @Test
+    @DisplayName("Should keep a dropped seat for the waitlist rather than a direct enrollment")
+    void unenrollThenEnroll_FullCourse_KeepsSeatForWaitlist() {
+        // Arrange
+        fill(2);
+        waitlist(2);
+
+        // Act: a newcomer tries the freed seat before the promoter runs
+        enrollmentService.unenroll(studentIds.get(0), course.getId());
+        EnrollmentOutcome outcome = enrollmentService.enroll(studentIds.get(3), course.getId());
+        waitlistService.join(studentIds.get(3), course.getId());
+        int promoted = waitlistPromoter.promotePending();
+
+        // Assert
+        assertEquals(EnrollmentOutcome.COURSE_FULL, outcome);
+        assertEquals(1, promoted);
+        assertTrue(enrollmentService.isEnrolled(studentIds.get(2), course.getId()));
+        assertFalse(enrollmentService.isEnrolled(studentIds.get(3), course.getId()));
+        assertEquals(List.of(1), positions(3));
+    }
+
+    @Test
+    @DisplayName("Should promote as many students as a raised capacity allows")
+    void saveCourse_RaisedCapacity_PromotesWaiters() {
+        // Arrange
+        fill(2);
+        waitlist(2, 3, 4);
+
+        // Act
+        course.setCapacity(4);
+        course = courseService.saveCourse(course);
+        int promoted = waitlistPromoter.promotePending();
+
+        // Assert
+        assertEquals(2, promoted);
+        assertTrue(enrollmentService.isEnrolled(studentIds.get(2), course.getId()));
+        assertTrue(enrollmentService.isEnrolled(studentIds.get(3), course.getId()));
+        assertEquals(List.of(1), positions(4));
+    }
+
+    @Test
+    @DisplayName("Should move later students up when someone leaves the waitlist")
+    void leave_MiddleOfQueue_ShiftsPositions() {
+        // Arrange
+        fill(2);
+        waitlist(2, 3, 4);
+
+        // Act
+        boolean left = waitlistService.leave(studentIds.get(3), course.getId());
+
+        // Assert
+        assertTrue(left);
+        assertEquals(List.of(1, 2), positions(2, 4));
+    }
+
+    @Test
+    @DisplayName("Should not waitlist a student twice")
+    void join_Twice_ReturnsAlreadyWaitlisted() {
+        // Arrange
+        fill(2);
+        waitlist(2);
+
+        // Act & Assert
+        assertEquals(EnrollmentOutcome.ALREADY_WAITLISTED, waitlistService.join(studentIds.get(2), course.getId()));
+        assertEquals(EnrollmentOutcome.ALREADY_ENROLLED, waitlistService.join(studentIds.get(0), course.getId()));
+    }
+
+    @Test
+    @DisplayName("Should promote in ticket order when drops and promoters run concurrently")
+    void concurrentDropsAndPromoters_PromoteFirstInLineExactlyOnce() throws Exception {
+        // Arrange
+        course.setCapacity(20);
+        course = courseService.saveCourse(course);
+        fill(20);
+        int[] waiters = new int[100];
+        for (int i = 0; i < waiters.length; i++) {
+            waiters[i] = 20 + i;
+        }
+        waitlist(waiters);
+
+        // Act: 20 students drop at once while two promoters compete
+        ExecutorService executor = Executors.newFixedThreadPool(22);
+        try {
+            List<CompletableFuture<?>> drops = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                Long studentId = studentIds.get(i);
+                drops.add(CompletableFuture.runAsync(() -> enrollmentService.unenroll(studentId, course.getId()), executor));
+            }
+            CompletableFuture.allOf(drops.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+            CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> waitlistPromoter.promote(course.getId()), executor);
+            CompletableFuture<Integer> second = CompletableFuture.supplyAsync(() -> waitlistPromoter.promote(course.getId()), executor);
+            assertEquals(20, first.get(60, TimeUnit.SECONDS) + second.get(60, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        Set<Long> enrolled = enrollmentService.getEnrollmentsForCourse(course.getId()).stream()
+                .map(enrollment -> enrollment.getStudent().getId())
+                .collect(Collectors.toSet());
+        assertEquals(Set.copyOf(studentIds.subList(20, 40)), enrolled);
+        assertEquals(20, seatStripeRepository.sumTaken(course.getId()));
+        assertEquals(80, waitlistService.getWaitlistSize(course.getId()));
+        assertEquals(List.of(1, 80), positions(40, 119));
+    }
+
+    private void fill(int count) {
+        for (int i = 0; i < count; i++) {
+            assertEquals(EnrollmentOutcome.ENROLLED, enrollmentService.enroll(studentIds.get(i), course.getId()));
+        }
+    }
+
+    private void waitlist(int... students) {
+        for (int index : students) {
+            Long studentId = studentIds.get(index);
+            assertEquals(EnrollmentOutcome.COURSE_FULL, enrollmentService.enroll(studentId, course.getId()));
+            assertEquals(EnrollmentOutcome.WAITLISTED, waitlistService.join(studentId, course.getId()));
+        }
+        // Nothing to promote while the course is full
+        assertEquals(0, waitlistPromoter.promotePending());
+    }
+
+    private List<Integer> positions(int... students) {
+        List<Integer> positions = new ArrayList<>();
+        for (int index : students) {
+            List<WaitlistEntry> entries = waitlistService.getWaitlistForStudent(studentIds.get(index));
+            positions.add(waitlistService.getPositions(entries).get(course.getId()));
+        }
+        return positions;
+    }
+}
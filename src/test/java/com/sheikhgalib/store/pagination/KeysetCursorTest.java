@@ -0,0 +1,75 @@
+package com.sheikhgalib.store.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for KeysetCursor
+ */
+class KeysetCursorTest {
+
+    private static final Set<String> SORTABLE = Set.of("id", "lastName");
+
+    @Test
+    @DisplayName("Should round-trip the keys of the last row")
+    void next_ThenDecode_RestoresKeys() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("lastName", "Smith");
+        keys.put("id", 42L);
+        Window<String> window = Window.from(List.of("a"), i -> ScrollPosition.forward(keys), true);
+        Sort sort = KeysetCursor.sort("lastName", "asc", SORTABLE);
+
+        String cursor = KeysetCursor.next(window);
+        ScrollPosition position = KeysetCursor.decode(cursor, sort);
+
+        KeysetScrollPosition keyset = assertInstanceOf(KeysetScrollPosition.class, position);
+        assertEquals("Smith", keyset.getKeys().get("lastName"));
+        assertEquals(42L, keyset.getKeys().get("id"));
+    }
+
+    @Test
+    @DisplayName("Should not produce a cursor on the last page")
+    void next_LastPage_ReturnsNull() {
+        Window<String> window = Window.from(List.of("a"), i -> ScrollPosition.keyset(), false);
+        assertNull(KeysetCursor.next(window));
+    }
+
+    @Test
+    @DisplayName("Should restart from the first page for malformed or mismatched cursors")
+    void decode_InvalidCursor_ReturnsInitialPosition() {
+        Sort byName = KeysetCursor.sort("lastName", "asc", SORTABLE);
+        Window<String> window = Window.from(List.of("a"), i -> ScrollPosition.forward(Map.of("id", 7L)), true);
+
+        assertTrue(KeysetCursor.decode(null, byName).isInitial());
+        assertTrue(KeysetCursor.decode("%%%", byName).isInitial());
+        assertTrue(KeysetCursor.decode(KeysetCursor.next(window), byName).isInitial());
+    }
+
+    @Test
+    @DisplayName("Should only sort on whitelisted columns with id as tie-breaker")
+    void sort_UnknownProperty_FallsBackToId() {
+        assertEquals(Sort.by(Sort.Direction.DESC, "id"), KeysetCursor.sort("phone", "desc", SORTABLE));
+        assertEquals(Sort.by(Sort.Order.asc("lastName"), Sort.Order.asc("id")),
+                KeysetCursor.sort("lastName", "bogus", SORTABLE));
+    }
+
+    @Test
+    @DisplayName("Should clamp page sizes")
+    void size_OutOfRange_IsClamped() {
+        assertEquals(KeysetCursor.DEFAULT_PAGE_SIZE, KeysetCursor.size(null));
+        assertEquals(KeysetCursor.DEFAULT_PAGE_SIZE, KeysetCursor.size(0));
+        assertEquals(KeysetCursor.MAX_PAGE_SIZE, KeysetCursor.size(10_000));
+        assertEquals(5, KeysetCursor.size(5));
+    }
+}
@@ -0,0 +1,57 @@
+package com.sheikhgalib.store.repository;
+
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Statement counts on top of {@link SqlCapture}. Only statements prepared on
+ * the calling thread are counted, which covers MockMvc requests end to end,
+ * view rendering included. Failures list the statements grouped by SQL with
+ * the most repeated first, so a per-row query stands out.
+ */
+public final class QueryCounter {
+
+    private QueryCounter() {
+    }
+
+    public static List<String> statementsDuring(Executable action) throws Throwable {
+        SqlCapture.start();
+        try {
+            action.execute();
+            return SqlCapture.stop();
+        } finally {
+            // Leaves nothing behind if the action threw
+            SqlCapture.stop();
+        }
+    }
+
+    public static void assertAtMost(int max, List<String> statements, String what) {
+        if (statements.size() > max) {
+            fail(what + " ran " + statements.size() + " statements, budget is " + max + ":\n" + summarize(statements));
+        }
+    }
+
+    /** Fails when the larger data set needed more statements than the smaller one. */
+    public static void assertSameCount(List<String> smaller, List<String> larger, String what) {
+        if (larger.size() != smaller.size()) {
+            fail(what + " ran " + smaller.size() + " statements on the small data set and " + larger.size()
+                    + " on the large one, so some query runs per row:\n" + summarize(larger));
+        }
+    }
+
+    static String summarize(List<String> statements) {
+        Map<String, Long> counts = statements.stream()
+                .map(sql -> sql.replaceAll("\\s+", " ").trim())
+                .collect(Collectors.groupingBy(sql -> sql, LinkedHashMap::new, Collectors.counting()));
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .map(entry -> String.format("%5d x %s", entry.getValue(), entry.getKey()))
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,184 @@
+package com.sheikhgalib.store.repository;
+
+import com.sheikhgalib.store.entity.Course;
+import com.sheikhgalib.store.entity.Department;
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.entity.Teacher;
+import com.sheikhgalib.store.service.CourseService;
+import com.sheikhgalib.store.service.StudentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Repository tests for SparseQueryRepository
+ * Checks the generated SQL as well as the rows
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class SparseQueryRepositoryTest {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Department department;
+    private Student loner;
+    private Student member;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        department = new Department();
+        department.setName("Sparse Department");
+        entityManager.persist(department);
+
+        Teacher teacher = new Teacher();
+        teacher.setFirstName("Ada");
+        teacher.setLastName("Teacher");
+        teacher.setEmail("ada@sparse.test");
+        entityManager.persist(teacher);
+
+        loner = student("Alone", null);
+        member = student("Member", department);
+
+        course = new Course();
+        course.setName("Sparse Course");
+        course.setCourseCode("SPR101");
+        course.setDepartment(department);
+        course.setTeacher(teacher);
+        entityManager.persist(course);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should select only the requested columns, without joins")
+    void findSparse_FewFields_NarrowSelect() {
+        // Arrange
+        SparseFields.Selection selection = StudentService.API_FIELDS.select("id,lastName", null);
+
+        // Act
+        SqlCapture.start();
+        Map<String, Object> row = studentRepository.findSparseById(selection, member.getId()).orElseThrow();
+        List<String> sql = SqlCapture.stop();
+
+        // Assert
+        assertEquals(List.of("id", "lastName"), List.copyOf(row.keySet()));
+        assertEquals("Member", row.get("lastName"));
+        assertEquals(1, sql.size());
+        String select = sql.get(0).toLowerCase();
+        assertFalse(select.contains("email"), select);
+        assertFalse(select.contains("first_name"), select);
+        assertFalse(select.contains("join"), select);
+    }
+
+    @Test
+    @DisplayName("Should read a foreign key field from the key column")
+    void findSparse_DepartmentId_NoJoin() {
+        SparseFields.Selection selection = StudentService.API_FIELDS.select("departmentId", null);
+
+        SqlCapture.start();
+        Map<String, Object> row = studentRepository.findSparseById(selection, member.getId()).orElseThrow();
+        List<String> sql = SqlCapture.stop();
+
+        assertEquals(department.getId(), row.get("departmentId"));
+        assertFalse(sql.get(0).toLowerCase().contains("join"), sql.get(0));
+    }
+
+    @Test
+    @DisplayName("Should join an expanded association and nest it")
+    void findSparse_Expand_LeftJoinsAssociation() {
+        // Arrange
+        SparseFields.Selection selection = StudentService.API_FIELDS.select("id", "department");
+
+        // Act
+        SqlCapture.start();
+        Map<String, Object> withDepartment = studentRepository.findSparseById(selection, member.getId()).orElseThrow();
+        List<String> sql = SqlCapture.stop();
+        Map<String, Object> withoutDepartment = studentRepository.findSparseById(selection, loner.getId()).orElseThrow();
+
+        // Assert
+        assertTrue(sql.get(0).toLowerCase().contains("left join"), sql.get(0));
+        assertEquals(Map.of("id", department.getId(), "name", "Sparse Department"), withDepartment.get("department"));
+        assertTrue(withoutDepartment.containsKey("department"));
+        assertNull(withoutDepartment.get("department"));
+    }
+
+    @Test
+    @DisplayName("Should return every field and several expansions when asked")
+    void findSparse_AllFieldsAndExpansions_ReturnsEverything() {
+        SparseFields.Selection selection = CourseService.API_FIELDS.select(null, "department,teacher");
+
+        Map<String, Object> row = courseRepository.findSparseById(selection, course.getId()).orElseThrow();
+
+        assertEquals(List.of("id", "courseCode", "name", "description", "credits", "capacity", "departmentId",
+                "teacherId", "department", "teacher"), List.copyOf(row.keySet()));
+        assertEquals("Ada", ((Map<?, ?>) row.get("teacher")).get("firstName"));
+    }
+
+    @Test
+    @DisplayName("Should page by keyset even when the sort key is not requested")
+    void findSparse_KeysetPages_CoverAllRowsInOrder() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            student("Extra" + i, department);
+        }
+        entityManager.flush();
+        SparseFields.Selection selection = StudentService.API_FIELDS.select("email", null);
+        Sort sort = Sort.by(Sort.Order.desc("lastName"), Sort.Order.desc("id"));
+
+        // Act
+        List<String> emails = new ArrayList<>();
+        ScrollPosition position = ScrollPosition.keyset();
+        Window<Map<String, Object>> window;
+        do {
+            window = studentRepository.findSparse(selection, position, sort, 2);
+            window.forEach(row -> {
+                assertEquals(List.of("email"), List.copyOf(row.keySet()));
+                emails.add((String) row.get("email"));
+            });
+            position = window.isEmpty() ? null : window.positionAt(window.size() - 1);
+        } while (window.hasNext());
+
+        // Assert
+        List<String> expected = studentRepository.findAll(sort).stream().map(Student::getEmail).toList();
+        assertEquals(expected, emails);
+    }
+
+    @Test
+    @DisplayName("Should reject fields and expansions the entity does not have")
+    void select_UnknownNames_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> StudentService.API_FIELDS.select("id,password", null));
+        assertThrows(IllegalArgumentException.class, () -> StudentService.API_FIELDS.select(null, "enrollments"));
+        assertEquals(StudentService.API_FIELDS.select(" , ", null).fields(),
+                StudentService.API_FIELDS.select(null, null).fields());
+    }
+
+    private Student student(String lastName, Department department) {
+        Student student = new Student();
+        student.setFirstName("Sparse");
+        student.setLastName(lastName);
+        student.setEmail(lastName.toLowerCase() + "@sparse.test");
+        student.setDepartment(department);
+        return entityManager.persist(student);
+    }
+}
@@ -2,11 +2,18 @@ package com.sheikhgalib.store.repository;
 
 import com.sheikhgalib.store.entity.Department;
 import com.sheikhgalib.store.entity.Student;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
@@ -28,6 +35,9 @@ class StudentRepositoryTest {
     @Autowired
     private DepartmentRepository departmentRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Department department;
 
     @BeforeEach
@@ -156,4 +166,54 @@ class StudentRepositoryTest {
         Optional<Student> deleted = studentRepository.findById(saved.getId());
         assertFalse(deleted.isPresent());
     }
+
+    @Test
+    @DisplayName("Should seek to the next page using a keyset position")
+    void findBy_KeysetPosition_ReturnsNextWindow() {
+        for (String lastName : List.of("Brown", "Adams", "Clark", "Evans", "Davis")) {
+            Student student = new Student();
+            student.setFirstName("First");
+            student.setLastName(lastName);
+            student.setEmail(lastName.toLowerCase() + "@test.com");
+            student.setDepartment(department);
+            studentRepository.save(student);
+        }
+        Sort sort = Sort.by("lastName", "id");
+
+        Window<Student> first = studentRepository.findBy(ScrollPosition.keyset(), sort, Limit.of(2));
+        assertEquals(List.of("Adams", "Brown"), first.stream().map(Student::getLastName).toList());
+        assertTrue(first.hasNext());
+
+        KeysetScrollPosition position = (KeysetScrollPosition) first.positionAt(first.size() - 1);
+        Window<Student> second = studentRepository.findBy(position, sort, Limit.of(2));
+        assertEquals(List.of("Clark", "Davis"), second.stream().map(Student::getLastName).toList());
+
+        Window<Student> last = studentRepository.findBy(second.positionAt(second.size() - 1), sort, Limit.of(2));
+        assertEquals(List.of("Evans"), last.stream().map(Student::getLastName).toList());
+        assertFalse(last.hasNext());
+    }
+
+    @Test
+    @DisplayName("Should fetch the department together with the student on view and list queries")
+    void fetchPlans_LoadDepartmentWithoutExtraQueries() {
+        Student student = new Student();
+        student.setFirstName("Graph");
+        student.setLastName("Student");
+        student.setEmail("graph@test.com");
+        student.setDepartment(department);
+        Long id = studentRepository.save(student).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        Student viewed = studentRepository.findById(id).orElseThrow();
+        assertTrue(Hibernate.isInitialized(viewed.getDepartment()));
+        entityManager.clear();
+
+        Window<Student> page = studentRepository.findBy(ScrollPosition.keyset(), Sort.by("id"), Limit.of(10));
+        assertTrue(page.stream().allMatch(s -> Hibernate.isInitialized(s.getDepartment())));
+        entityManager.clear();
+
+        List<Student> plain = studentRepository.findByDepartmentId(department.getId());
+        assertFalse(Hibernate.isInitialized(plain.get(0).getDepartment()));
+    }
 }
@@ -0,0 +1,142 @@
+package com.sheikhgalib.store.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PrefixIndex
+ * Tests prefix matching on names and course codes and incremental updates
+ */
+class PrefixIndexTest {
+
+    private static final EnumSet<SearchType> ALL = EnumSet.allOf(SearchType.class);
+
+    private PrefixIndex prefixIndex;
+
+    @BeforeEach
+    void setUp() {
+        prefixIndex = new PrefixIndex();
+        prefixIndex.index(person(SearchType.TEACHER, 1L, "John Smith"));
+        prefixIndex.index(person(SearchType.TEACHER, 2L, "Johanna Smithers"));
+        prefixIndex.index(person(SearchType.STUDENT, 3L, "Alice Johnson"));
+        prefixIndex.index(new SearchDocument(SearchType.COURSE, 4L, "Data Structures", "CS101", List.of("CS101"), null));
+    }
+
+    @Test
+    @DisplayName("Should match a prefix of the first name")
+    void suggest_FirstNamePrefix_ReturnsMatches() {
+        // Act
+        List<Suggestion> suggestions = prefixIndex.suggest("joh", EnumSet.of(SearchType.TEACHER), 10);
+
+        // Assert
+        assertEquals(List.of("Johanna Smithers", "John Smith"), suggestions.stream().map(Suggestion::label).toList());
+    }
+
+    @Test
+    @DisplayName("Should match a prefix of a later word in the name")
+    void suggest_LastNamePrefix_ReturnsMatches() {
+        // Act
+        List<Suggestion> suggestions = prefixIndex.suggest("SMITH", ALL, 10);
+
+        // Assert
+        assertEquals(2, suggestions.size());
+    }
+
+    @Test
+    @DisplayName("Should match course codes and label them with the course name")
+    void suggest_CourseCodePrefix_ReturnsCourse() {
+        // Act
+        List<Suggestion> suggestions = prefixIndex.suggest("cs1", ALL, 10);
+
+        // Assert
+        assertEquals(List.of(new Suggestion(SearchType.COURSE, 4L, "CS101 - Data Structures")), suggestions);
+    }
+
+    @Test
+    @DisplayName("Should only return the requested types")
+    void suggest_TypeFilter_ExcludesOtherTypes() {
+        // Act
+        List<Suggestion> suggestions = prefixIndex.suggest("john", EnumSet.of(SearchType.STUDENT), 10);
+
+        // Assert
+        assertEquals(List.of(new Suggestion(SearchType.STUDENT, 3L, "Alice Johnson")), suggestions);
+    }
+
+    @Test
+    @DisplayName("Should return each entity once even if several of its terms match")
+    void suggest_SeveralTermsMatch_ReturnsEntityOnce() {
+        // Arrange
+        prefixIndex.index(person(SearchType.STUDENT, 5L, "Sam Samson"));
+
+        // Act
+        List<Suggestion> suggestions = prefixIndex.suggest("sam", ALL, 10);
+
+        // Assert
+        assertEquals(1, suggestions.size());
+    }
+
+    @Test
+    @DisplayName("Should respect the limit")
+    void suggest_Limit_CapsResults() {
+        // Act & Assert
+        assertEquals(1, prefixIndex.suggest("j", ALL, 1).size());
+    }
+
+    @Test
+    @DisplayName("Should pick the limit across types by label, whichever type is scanned first")
+    void suggest_LimitAcrossTypes_SortsByLabel() {
+        // Arrange: students are scanned before teachers and fill the limit on their own
+        PrefixIndex index = new PrefixIndex();
+        index.index(person(SearchType.STUDENT, 1L, "Zed Johns"));
+        index.index(person(SearchType.STUDENT, 2L, "Zara Johnsen"));
+        index.index(person(SearchType.TEACHER, 3L, "John Smith"));
+        index.index(person(SearchType.TEACHER, 4L, "Johanna Smithers"));
+
+        // Act
+        List<Suggestion> suggestions = index.suggest("joh", EnumSet.of(SearchType.STUDENT, SearchType.TEACHER), 2);
+
+        // Assert
+        assertEquals(List.of("Johanna Smithers", "John Smith"), suggestions.stream().map(Suggestion::label).toList());
+    }
+
+    @Test
+    @DisplayName("Should replace old terms when an entity is reindexed")
+    void index_Renamed_DropsOldTerms() {
+        // Act
+        prefixIndex.index(person(SearchType.TEACHER, 1L, "Jane Doe"));
+
+        // Assert
+        assertTrue(prefixIndex.suggest("smith", ALL, 10).stream().noneMatch(s -> s.id() == 1L));
+        assertEquals(1L, prefixIndex.suggest("doe", ALL, 10).get(0).id());
+        assertEquals(4, prefixIndex.size());
+    }
+
+    @Test
+    @DisplayName("Should stop suggesting removed entities")
+    void remove_ExistingEntity_NoLongerSuggested() {
+        // Act
+        prefixIndex.remove(SearchType.COURSE, 4L);
+
+        // Assert
+        assertTrue(prefixIndex.suggest("cs", ALL, 10).isEmpty());
+        assertTrue(prefixIndex.suggest("data", ALL, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return nothing for a blank prefix")
+    void suggest_BlankPrefix_ReturnsEmpty() {
+        // Act & Assert
+        assertTrue(prefixIndex.suggest("  ", ALL, 10).isEmpty());
+        assertTrue(prefixIndex.suggest(null, ALL, 10).isEmpty());
+    }
+
+    private static SearchDocument person(SearchType type, Long id, String name) {
+        return new SearchDocument(type, id, name, null, List.of(), null);
+    }
+}
@@ -0,0 +1,142 @@
+package com.sheikhgalib.store.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SearchIndex
+ * Tests indexing, relevance ranking, type filtering and deletes
+ */
+class SearchIndexTest {
+
+    private static final EnumSet<SearchType> ALL = EnumSet.allOf(SearchType.class);
+
+    private SearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        searchIndex = new SearchIndex("", Duration.ofMinutes(1));
+        searchIndex.index(new SearchDocument(SearchType.STUDENT, 1L, "Alice Johnson", "alice@uni.edu",
+                List.of("alice@uni.edu", "S001"), null));
+        searchIndex.index(new SearchDocument(SearchType.STUDENT, 2L, "Bob Alison", "bob@uni.edu",
+                List.of("bob@uni.edu", "S002"), null));
+        searchIndex.index(new SearchDocument(SearchType.TEACHER, 3L, "John Smith", "john@uni.edu",
+                List.of("john@uni.edu", "T001"), null));
+        searchIndex.index(new SearchDocument(SearchType.COURSE, 4L, "Data Structures", "CS101",
+                List.of("CS101"), "Lists, trees and hash tables, taught by John"));
+        searchIndex.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Test
+    @DisplayName("Should find a person by name")
+    void search_ByName_ReturnsMatch() {
+        // Act
+        SearchResult result = searchIndex.search("alice", ALL, 10);
+
+        // Assert
+        assertEquals(1, result.totalHits());
+        assertEquals(1L, result.hits().get(0).id());
+        assertEquals("Alice Johnson", result.hits().get(0).title());
+        assertEquals("/student/view/1", result.hits().get(0).getViewPath());
+    }
+
+    @Test
+    @DisplayName("Should match exact email and codes case-insensitively")
+    void search_ByKeyword_ReturnsMatch() {
+        // Act & Assert
+        assertEquals(2L, searchIndex.search("bob@uni.edu", ALL, 10).hits().get(0).id());
+        assertEquals(4L, searchIndex.search("cs101", ALL, 10).hits().get(0).id());
+        assertEquals(3L, searchIndex.search("t001", ALL, 10).hits().get(0).id());
+    }
+
+    @Test
+    @DisplayName("Should rank name matches above description matches")
+    void search_NameAndDescriptionMatch_RanksNameFirst() {
+        // Act
+        SearchResult result = searchIndex.search("john", ALL, 10);
+
+        // Assert
+        assertEquals(List.of(3L, 4L), result.hits().stream().map(SearchHit::id).toList());
+        assertTrue(result.hits().get(0).score() > result.hits().get(1).score());
+    }
+
+    @Test
+    @DisplayName("Should require every word to match")
+    void search_MultipleWords_RequiresAll() {
+        // Act
+        SearchResult result = searchIndex.search("alice johnson", ALL, 10);
+
+        // Assert
+        assertEquals(1, result.totalHits());
+        assertEquals(1L, result.hits().get(0).id());
+    }
+
+    @Test
+    @DisplayName("Should support prefix queries")
+    void search_Prefix_ReturnsMatches() {
+        // Act
+        SearchResult result = searchIndex.search("ali*", ALL, 10);
+
+        // Assert
+        assertEquals(2, result.totalHits());
+    }
+
+    @Test
+    @DisplayName("Should only return the requested types")
+    void search_TypeFilter_ExcludesOtherTypes() {
+        // Act
+        SearchResult result = searchIndex.search("john", EnumSet.of(SearchType.COURSE), 10);
+
+        // Assert
+        assertEquals(1, result.totalHits());
+        assertEquals(SearchType.COURSE, result.hits().get(0).type());
+    }
+
+    @Test
+    @DisplayName("Should replace a document when it is indexed again")
+    void index_ExistingDocument_ReplacesIt() {
+        // Arrange
+        searchIndex.index(new SearchDocument(SearchType.STUDENT, 1L, "Alice Walker", "alice@uni.edu",
+                List.of("alice@uni.edu", "S001"), null));
+        searchIndex.refresh();
+
+        // Act & Assert
+        assertEquals(0, searchIndex.search("johnson", ALL, 10).totalHits());
+        assertEquals(1, searchIndex.search("walker", ALL, 10).totalHits());
+        assertEquals(4, searchIndex.size());
+    }
+
+    @Test
+    @DisplayName("Should remove deleted documents")
+    void delete_ExistingDocument_RemovesIt() {
+        // Act
+        searchIndex.delete(SearchType.STUDENT, 1L);
+        searchIndex.refresh();
+
+        // Assert
+        assertEquals(0, searchIndex.search("alice", ALL, 10).totalHits());
+        assertEquals(3, searchIndex.size());
+    }
+
+    @Test
+    @DisplayName("Should return no results for a blank query")
+    void search_BlankQuery_ReturnsEmpty() {
+        // Act & Assert
+        assertTrue(searchIndex.search("  ", ALL, 10).hits().isEmpty());
+        assertTrue(searchIndex.search(null, ALL, 10).hits().isEmpty());
+    }
+}
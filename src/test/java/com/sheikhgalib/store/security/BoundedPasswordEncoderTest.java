@@ -0,0 +1,140 @@
+package com.sheikhgalib.store.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BoundedPasswordEncoder
+ * Tests delegation, pool thread usage and fail-fast rejection
+ */
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) {
+            encoder.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should delegate encode and matches to the wrapped encoder")
+    void encodeAndMatches_DelegatesToWrappedEncoder() {
+        // Arrange
+        encoder = new BoundedPasswordEncoder(new PrefixEncoder(null), 2, 4);
+
+        // Act
+        String encoded = encoder.encode("secret");
+
+        // Assert
+        assertEquals("hashed:secret", encoded);
+        assertTrue(encoder.matches("secret", encoded));
+        assertFalse(encoder.matches("other", encoded));
+    }
+
+    @Test
+    @DisplayName("Should hash on a pool thread rather than the caller's thread")
+    void encode_RunsOnPoolThread() {
+        // Arrange
+        String[] hashingThread = new String[1];
+        encoder = new BoundedPasswordEncoder(new PrefixEncoder(null) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                hashingThread[0] = Thread.currentThread().getName();
+                return super.encode(rawPassword);
+            }
+        }, 1, 1);
+
+        // Act
+        encoder.encode("secret");
+
+        // Assert
+        assertTrue(hashingThread[0].startsWith("password-hashing-"));
+    }
+
+    @Test
+    @DisplayName("Should reject hashing when the pool and queue are full")
+    void encode_PoolSaturated_ThrowsRejected() throws Exception {
+        // Arrange
+        encoder = new BoundedPasswordEncoder(new PrefixEncoder(release), 1, 1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> running = callers.submit(() -> encoder.encode("first"));
+            waitUntil(() -> encoder.getActiveCount() == 1);
+            Future<String> queued = callers.submit(() -> encoder.encode("second"));
+            waitUntil(() -> encoder.getQueueSize() == 1);
+
+            // Act & Assert
+            assertThrows(PasswordHashingRejectedException.class, () -> encoder.encode("third"));
+            release.countDown();
+            assertEquals("hashed:first", running.get(5, TimeUnit.SECONDS));
+            assertEquals("hashed:second", queued.get(5, TimeUnit.SECONDS));
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should propagate exceptions thrown by the wrapped encoder")
+    void encode_DelegateThrows_PropagatesException() {
+        // Arrange
+        encoder = new BoundedPasswordEncoder(new PrefixEncoder(null) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                throw new IllegalArgumentException("bad password");
+            }
+        }, 1, 1);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> encoder.encode("secret"));
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met in time");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static class PrefixEncoder implements PasswordEncoder {
+
+        private final CountDownLatch gate;
+
+        PrefixEncoder(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (gate != null) {
+                try {
+                    gate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -8,10 +8,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.Set;
 
@@ -28,6 +31,9 @@ class CustomUserDetailsServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private UserDetailsCache userDetailsCache = new UserDetailsCache(100, Duration.ofMinutes(5));
+
     @InjectMocks
     private CustomUserDetailsService userDetailsService;
 
@@ -109,4 +115,53 @@ class CustomUserDetailsServiceTest {
         assertNotNull(userDetails);
         assertFalse(userDetails.isEnabled());
     }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from the cache")
+    void loadUserByUsername_Repeated_QueriesRepositoryOnce() {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+
+        // Act
+        userDetailsService.loadUserByUsername("testuser");
+        userDetailsService.loadUserByUsername("testuser");
+        UserDetails userDetails = userDetailsService.loadUserByUsername("testuser");
+
+        // Assert
+        assertEquals("encodedPassword", userDetails.getPassword());
+        verify(userRepository, times(1)).findByUsername("testuser");
+        assertEquals(2, userDetailsCache.stats().hitCount());
+        assertEquals(1, userDetailsCache.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("Should not let credential erasure leak into the cache")
+    void loadUserByUsername_CredentialsErased_CacheKeepsPassword() {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+
+        // Act
+        ((CredentialsContainer) userDetailsService.loadUserByUsername("testuser")).eraseCredentials();
+        UserDetails userDetails = userDetailsService.loadUserByUsername("testuser");
+
+        // Assert
+        assertEquals("encodedPassword", userDetails.getPassword());
+    }
+
+    @Test
+    @DisplayName("Should reload the user after eviction")
+    void loadUserByUsername_AfterEvict_ReloadsUser() {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+        userDetailsService.loadUserByUsername("testuser");
+        user.setPassword("newPassword");
+
+        // Act
+        userDetailsCache.evict("testuser");
+        UserDetails userDetails = userDetailsService.loadUserByUsername("testuser");
+
+        // Assert
+        assertEquals("newPassword", userDetails.getPassword());
+        verify(userRepository, times(2)).findByUsername("testuser");
+    }
 }
@@ -30,6 +30,15 @@ class CourseServiceTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private SeatService seatService;
+
+    @Mock
+    private WaitlistPromoter waitlistPromoter;
+
+    @Mock
+    private ViewVersions viewVersions;
+
     @InjectMocks
     private CourseService courseService;
 
@@ -164,6 +173,8 @@ class CourseServiceTest {
         assertEquals(3L, result.getId());
         assertEquals("Database Systems", result.getName());
         verify(courseRepository, times(1)).save(any(Course.class));
+        verify(seatService).resize(3L, null);
+        verify(waitlistPromoter).schedule(3L);
     }
 
     @Test
@@ -0,0 +1,288 @@
+package com.sheikhgalib.store.service;
+
+import com.sheikhgalib.store.dto.BulkEnrollmentResult;
+import com.sheikhgalib.store.dto.EnrollmentOutcome;
+import com.sheikhgalib.store.entity.Course;
+import com.sheikhgalib.store.entity.Enrollment;
+import com.sheikhgalib.store.entity.EnrollmentId;
+import com.sheikhgalib.store.entity.EnrollmentStatus;
+import com.sheikhgalib.store.entity.Student;
+import com.sheikhgalib.store.repository.CourseRepository;
+import com.sheikhgalib.store.repository.EnrollmentRepository;
+import com.sheikhgalib.store.repository.StudentRepository;
+import com.sheikhgalib.store.repository.WaitlistRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EnrollmentService
+ * Uses Mockito to mock the repository layer
+ */
+@ExtendWith(MockitoExtension.class)
+class EnrollmentServiceTest {
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private WaitlistRepository waitlistRepository;
+
+    @Mock
+    private SeatService seatService;
+
+    @Mock
+    private WaitlistPromoter waitlistPromoter;
+
+    @Mock
+    private ViewVersions viewVersions;
+
+    @InjectMocks
+    private EnrollmentService enrollmentService;
+
+    private Student student;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        student = new Student();
+        student.setId(1L);
+        course = new Course();
+        course.setId(2L);
+    }
+
+    @Test
+    @DisplayName("Should save a new active enrollment")
+    void enroll_NotEnrolled_SavesEnrollment() {
+        // Arrange
+        when(enrollmentRepository.existsById(new EnrollmentId(1L, 2L))).thenReturn(false);
+        when(seatService.reserve(2L)).thenReturn(true);
+        when(studentRepository.getReferenceById(1L)).thenReturn(student);
+        when(courseRepository.getReferenceById(2L)).thenReturn(course);
+
+        // Act
+        EnrollmentOutcome outcome = enrollmentService.enroll(1L, 2L);
+
+        // Assert
+        assertEquals(EnrollmentOutcome.ENROLLED, outcome);
+        ArgumentCaptor<Enrollment> captor = ArgumentCaptor.forClass(Enrollment.class);
+        verify(enrollmentRepository).save(captor.capture());
+        assertEquals(new EnrollmentId(1L, 2L), captor.getValue().getId());
+        assertEquals(EnrollmentStatus.ACTIVE, captor.getValue().getStatus());
+        assertNotNull(captor.getValue().getEnrolledAt());
+        assertTrue(captor.getValue().isNew());
+    }
+
+    @Test
+    @DisplayName("Should not save a duplicate enrollment")
+    void enroll_AlreadyEnrolled_ReturnsFalse() {
+        // Arrange
+        when(enrollmentRepository.existsById(new EnrollmentId(1L, 2L))).thenReturn(true);
+
+        // Act
+        EnrollmentOutcome outcome = enrollmentService.enroll(1L, 2L);
+
+        // Assert
+        assertEquals(EnrollmentOutcome.ALREADY_ENROLLED, outcome);
+        verify(enrollmentRepository, never()).save(any(Enrollment.class));
+        verifyNoInteractions(seatService);
+    }
+
+    @Test
+    @DisplayName("Should not save an enrollment when the course is full")
+    void enroll_CourseFull_ReturnsCourseFull() {
+        // Arrange
+        when(enrollmentRepository.existsById(new EnrollmentId(1L, 2L))).thenReturn(false);
+        when(seatService.reserve(2L)).thenReturn(false);
+
+        // Act
+        EnrollmentOutcome outcome = enrollmentService.enroll(1L, 2L);
+
+        // Assert
+        assertEquals(EnrollmentOutcome.COURSE_FULL, outcome);
+        verify(enrollmentRepository, never()).save(any(Enrollment.class));
+    }
+
+    @Test
+    @DisplayName("Should leave a freed seat to the waitlist instead of a newcomer")
+    void enroll_CourseHasWaiters_ReturnsCourseFull() {
+        // Arrange
+        when(enrollmentRepository.existsById(new EnrollmentId(1L, 2L))).thenReturn(false);
+        when(waitlistRepository.existsByCourseId(2L)).thenReturn(true);
+
+        // Act
+        EnrollmentOutcome outcome = enrollmentService.enroll(1L, 2L);
+
+        // Assert
+        assertEquals(EnrollmentOutcome.COURSE_FULL, outcome);
+        verify(seatService, never()).reserve(anyLong());
+        verify(enrollmentRepository, never()).save(any(Enrollment.class));
+    }
+
+    @Test
+    @DisplayName("Should delete a single enrollment by key")
+    void unenroll_Enrolled_ReturnsTrue() {
+        // Arrange
+        when(enrollmentRepository.deleteDirectlyById(new EnrollmentId(1L, 2L))).thenReturn(1);
+
+        // Act & Assert
+        assertTrue(enrollmentService.unenroll(1L, 2L));
+        verify(seatService).release(2L);
+        verify(waitlistPromoter).schedule(2L);
+    }
+
+    @Test
+    @DisplayName("Should report when there was nothing to unenroll")
+    void unenroll_NotEnrolled_ReturnsFalse() {
+        // Arrange
+        when(enrollmentRepository.deleteDirectlyById(new EnrollmentId(1L, 2L))).thenReturn(0);
+
+        // Act & Assert
+        assertFalse(enrollmentService.unenroll(1L, 2L));
+        verifyNoInteractions(seatService, waitlistPromoter);
+    }
+
+    @Test
+    @DisplayName("Should update the status of an existing enrollment")
+    void updateStatus_Enrolled_ReturnsTrue() {
+        // Arrange
+        when(enrollmentRepository.updateStatus(new EnrollmentId(1L, 2L), EnrollmentStatus.COMPLETED)).thenReturn(1);
+
+        // Act & Assert
+        assertTrue(enrollmentService.updateStatus(1L, 2L, EnrollmentStatus.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("Should split large id lists into chunks and total the counts")
+    void enrollStudents_LargeList_InsertsInChunks() {
+        // Arrange
+        List<Long> ids = new ArrayList<>(LongStream.rangeClosed(1, 2500).boxed().toList());
+        ids.add(1L);
+        when(studentRepository.countByIdIn(anyList())).thenAnswer(call -> (long) call.<List<?>>getArgument(0).size());
+        when(enrollmentRepository.countByIdCourseIdAndIdStudentIdIn(eq(2L), anyList())).thenReturn(0L, 0L, 10L);
+        when(seatService.lockFreeSeats(2L)).thenReturn(null);
+        when(enrollmentRepository.insertForStudents(eq(2L), anyList(), any(), isNull()))
+                .thenReturn(1000, 1000, 490);
+
+        // Act
+        BulkEnrollmentResult result = enrollmentService.enrollStudents(2L, ids);
+
+        // Assert
+        assertEquals(2500, result.requested());
+        assertEquals(2490, result.enrolled());
+        assertEquals(10, result.alreadyEnrolled());
+        assertEquals(0, result.noSeat());
+        assertEquals(0, result.notFound());
+        verify(enrollmentRepository, times(3)).insertForStudents(eq(2L), anyList(), any(), isNull());
+        verify(seatService, never()).takeLocked(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should report unknown student ids as not found")
+    void enrollStudents_UnknownIds_CountsNotFound() {
+        // Arrange
+        when(studentRepository.countByIdIn(anyList())).thenReturn(1L);
+        when(seatService.lockFreeSeats(2L)).thenReturn(null);
+        when(enrollmentRepository.insertForStudents(eq(2L), anyList(), any(), isNull())).thenReturn(1);
+
+        // Act
+        BulkEnrollmentResult result = enrollmentService.enrollStudents(2L, List.of(1L, 98L, 99L));
+
+        // Assert
+        assertEquals(3, result.requested());
+        assertEquals(1, result.enrolled());
+        assertEquals(2, result.notFound());
+    }
+
+    @Test
+    @DisplayName("Should enroll a department with one insert")
+    void enrollDepartment_SomeEnrolled_ReportsSkipped() {
+        // Arrange
+        when(studentRepository.countByDepartmentId(5L)).thenReturn(40L);
+        when(enrollmentRepository.countByIdCourseIdAndStudentDepartmentId(2L, 5L)).thenReturn(5L);
+        when(seatService.lockFreeSeats(2L)).thenReturn(null);
+        when(enrollmentRepository.insertForDepartment(eq(2L), eq(5L), any(), isNull())).thenReturn(35);
+
+        // Act
+        BulkEnrollmentResult result = enrollmentService.enrollDepartment(2L, 5L);
+
+        // Assert
+        assertEquals(40, result.requested());
+        assertEquals(35, result.enrolled());
+        assertEquals(5, result.alreadyEnrolled());
+        verify(enrollmentRepository, times(1)).insertForDepartment(eq(2L), eq(5L), any(), isNull());
+    }
+
+    @Test
+    @DisplayName("Should cap a bulk enrollment at the free seats")
+    void enrollDepartment_FewSeatsLeft_ReportsNoSeat() {
+        // Arrange
+        when(studentRepository.countByDepartmentId(5L)).thenReturn(40L);
+        when(seatService.lockFreeSeats(2L)).thenReturn(12L);
+        when(enrollmentRepository.insertForDepartment(eq(2L), eq(5L), any(), eq(12L))).thenReturn(12);
+
+        // Act
+        BulkEnrollmentResult result = enrollmentService.enrollDepartment(2L, 5L);
+
+        // Assert
+        assertEquals(12, result.enrolled());
+        assertEquals(28, result.noSeat());
+        verify(seatService).takeLocked(2L, 12L);
+    }
+
+    @Test
+    @DisplayName("Should not insert anything into a full course")
+    void enrollStudents_CourseFull_InsertsNothing() {
+        // Arrange
+        when(studentRepository.countByIdIn(anyList())).thenReturn(2L);
+        when(seatService.lockFreeSeats(2L)).thenReturn(0L);
+
+        // Act
+        BulkEnrollmentResult result = enrollmentService.enrollStudents(2L, List.of(1L, 3L));
+
+        // Assert
+        assertEquals(0, result.enrolled());
+        assertEquals(2, result.noSeat());
+        verify(enrollmentRepository, never()).insertForStudents(any(), anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should not bulk enroll past students waiting for the course")
+    void enrollStudents_CourseHasWaiters_InsertsNothing() {
+        // Arrange
+        when(studentRepository.countByIdIn(anyList())).thenReturn(2L);
+        when(seatService.lockFreeSeats(2L)).thenReturn(1L);
+        when(waitlistRepository.existsByCourseId(2L)).thenReturn(true);
+
+        // Act
+        BulkEnrollmentResult result = enrollmentService.enrollStudents(2L, List.of(1L, 3L));
+
+        // Assert
+        assertEquals(0, result.enrolled());
+        assertEquals(2, result.noSeat());
+        verify(enrollmentRepository, never()).insertForStudents(any(), anyList(), any(), any());
+    }
+}
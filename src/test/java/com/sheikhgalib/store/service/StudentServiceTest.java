@@ -10,6 +10,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.util.Arrays;
 import java.util.List;
@@ -17,6 +21,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -155,6 +160,22 @@ class StudentServiceTest {
         verify(studentRepository, times(1)).save(any(Student.class));
     }
 
+    @Test
+    @DisplayName("Should save a batch of students in one call")
+    void saveAllStudents_ValidStudents_DelegatesToSaveAll() {
+        // Arrange
+        List<Student> students = Arrays.asList(student1, student2);
+        when(studentRepository.saveAll(students)).thenReturn(students);
+
+        // Act
+        List<Student> result = studentService.saveAllStudents(students);
+
+        // Assert
+        assertEquals(2, result.size());
+        verify(studentRepository, times(1)).saveAll(students);
+        verify(studentRepository, never()).save(any(Student.class));
+    }
+
     @Test
     @DisplayName("Should delete student successfully")
     void deleteStudent_ExistingId_DeletesStudent() {
@@ -197,4 +218,35 @@ class StudentServiceTest {
         assertTrue(result.isEmpty());
         verify(studentRepository, times(1)).findByDepartmentId(999L);
     }
+
+    @Test
+    @DisplayName("Should request a keyset window sorted by the requested column")
+    void getStudentPage_SortableColumn_UsesKeysetWindow() {
+        // Arrange
+        Sort expected = Sort.by(Sort.Order.desc("lastName"), Sort.Order.desc("id"));
+        when(studentRepository.findBy(ScrollPosition.keyset(), expected, Limit.of(2)))
+                .thenReturn(Window.from(List.of(student2, student1), ScrollPosition::offset));
+
+        // Act
+        Window<Student> result = studentService.getStudentPage(null, "lastName", "desc", 2);
+
+        // Assert
+        assertEquals(2, result.size());
+        verify(studentRepository, times(1)).findBy(eq(ScrollPosition.keyset()), eq(expected), eq(Limit.of(2)));
+    }
+
+    @Test
+    @DisplayName("Should ignore sort columns that are not indexed")
+    void getStudentPage_UnsupportedColumn_SortsById() {
+        // Arrange
+        Sort expected = Sort.by(Sort.Direction.ASC, "id");
+        when(studentRepository.findBy(ScrollPosition.keyset(), expected, Limit.of(20)))
+                .thenReturn(Window.from(List.of(student1), ScrollPosition::offset));
+
+        // Act
+        Window<Student> result = studentService.getStudentPage("not-a-cursor", "phone", null, null);
+
+        // Assert
+        assertEquals(1, result.size());
+    }
 }
@@ -0,0 +1,89 @@
+package com.sheikhgalib.store.service;
+
+import com.sheikhgalib.store.repository.WaitlistRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WaitlistPositions
+ * Tests position lookups against cached ticket snapshots
+ */
+@ExtendWith(MockitoExtension.class)
+class WaitlistPositionsTest {
+
+    @Mock
+    private WaitlistRepository waitlistRepository;
+
+    private WaitlistPositions waitlistPositions;
+
+    @BeforeEach
+    void setUp() {
+        waitlistPositions = new WaitlistPositions(waitlistRepository, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("Should answer repeated lookups from one snapshot")
+    void positionOf_Repeated_LoadsTicketsOnce() {
+        // Arrange
+        when(waitlistRepository.findTicketsByCourseId(7L)).thenReturn(List.of(10L, 14L, 15L, 21L));
+
+        // Act & Assert
+        assertEquals(1, waitlistPositions.positionOf(7L, 10L));
+        assertEquals(3, waitlistPositions.positionOf(7L, 15L));
+        assertEquals(4, waitlistPositions.positionOf(7L, 21L));
+        assertEquals(4, waitlistPositions.size(7L));
+        verify(waitlistRepository, times(1)).findTicketsByCourseId(7L);
+    }
+
+    @Test
+    @DisplayName("Should reload the snapshot for a ticket it does not contain")
+    void positionOf_NewTicket_ReloadsSnapshot() {
+        // Arrange
+        when(waitlistRepository.findTicketsByCourseId(7L))
+                .thenReturn(List.of(10L, 14L))
+                .thenReturn(List.of(10L, 14L, 30L));
+        waitlistPositions.size(7L);
+
+        // Act
+        int position = waitlistPositions.positionOf(7L, 30L);
+
+        // Assert
+        assertEquals(3, position);
+        verify(waitlistRepository, times(2)).findTicketsByCourseId(7L);
+    }
+
+    @Test
+    @DisplayName("Should patch a cached snapshot on join and leave without reloading it")
+    void joinedAndLeft_CachedSnapshot_UpdatesInPlace() {
+        // Arrange
+        when(waitlistRepository.findTicketsByCourseId(7L)).thenReturn(List.of(10L, 14L));
+        assertEquals(2, waitlistPositions.size(7L));
+
+        // Act
+        waitlistPositions.joined(7L, 30L);
+        waitlistPositions.left(7L, List.of(10L));
+
+        // Assert
+        assertEquals(1, waitlistPositions.positionOf(7L, 14L));
+        assertEquals(2, waitlistPositions.positionOf(7L, 30L));
+        verify(waitlistRepository, times(1)).findTicketsByCourseId(7L);
+    }
+
+    @Test
+    @DisplayName("Should keep tickets sorted and ignore ones already present or absent")
+    void withTicketAndWithoutTickets_KeepSnapshotSorted() {
+        assertArrayEquals(new long[]{10, 12, 14}, WaitlistPositions.withTicket(new long[]{10, 14}, 12));
+        assertArrayEquals(new long[]{10, 14}, WaitlistPositions.withTicket(new long[]{10, 14}, 14));
+        assertArrayEquals(new long[]{14}, WaitlistPositions.withoutTickets(new long[]{10, 14}, List.of(10L, 99L)));
+    }
+}
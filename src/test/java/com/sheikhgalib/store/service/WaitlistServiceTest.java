@@ -0,0 +1,127 @@
+package com.sheikhgalib.store.service;
+
+import com.sheikhgalib.store.dto.EnrollmentOutcome;
+import com.sheikhgalib.store.entity.EnrollmentId;
+import com.sheikhgalib.store.entity.WaitlistEntry;
+import com.sheikhgalib.store.repository.CourseRepository;
+import com.sheikhgalib.store.repository.EnrollmentRepository;
+import com.sheikhgalib.store.repository.StudentRepository;
+import com.sheikhgalib.store.repository.WaitlistRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WaitlistService
+ * Uses Mockito to mock the repository layer
+ */
+@ExtendWith(MockitoExtension.class)
+class WaitlistServiceTest {
+
+    @Mock
+    private WaitlistRepository waitlistRepository;
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private WaitlistPositions waitlistPositions;
+
+    @Mock
+    private WaitlistPromoter waitlistPromoter;
+
+    @Mock
+    private ViewVersions viewVersions;
+
+    @InjectMocks
+    private WaitlistService waitlistService;
+
+    @Test
+    @DisplayName("Should add the student to the waitlist and schedule a promotion")
+    void join_NotWaiting_SavesEntry() {
+        // Arrange
+        when(enrollmentRepository.existsById(new EnrollmentId(1L, 2L))).thenReturn(false);
+        when(waitlistRepository.existsByCourseIdAndStudentId(2L, 1L)).thenReturn(false);
+        WaitlistEntry saved = mock(WaitlistEntry.class);
+        when(saved.getTicket()).thenReturn(9L);
+        when(waitlistRepository.save(any(WaitlistEntry.class))).thenReturn(saved);
+
+        // Act
+        EnrollmentOutcome outcome = waitlistService.join(1L, 2L);
+
+        // Assert
+        assertEquals(EnrollmentOutcome.WAITLISTED, outcome);
+        verify(waitlistPositions).joined(2L, 9L);
+        verify(waitlistPromoter).schedule(2L);
+    }
+
+    @Test
+    @DisplayName("Should not waitlist a student who is already enrolled")
+    void join_AlreadyEnrolled_ReturnsAlreadyEnrolled() {
+        // Arrange
+        when(enrollmentRepository.existsById(new EnrollmentId(1L, 2L))).thenReturn(true);
+
+        // Act
+        EnrollmentOutcome outcome = waitlistService.join(1L, 2L);
+
+        // Assert
+        assertEquals(EnrollmentOutcome.ALREADY_ENROLLED, outcome);
+        verify(waitlistRepository, never()).save(any(WaitlistEntry.class));
+    }
+
+    @Test
+    @DisplayName("Should not add a second entry for the same course")
+    void join_AlreadyWaiting_ReturnsAlreadyWaitlisted() {
+        // Arrange
+        when(enrollmentRepository.existsById(new EnrollmentId(1L, 2L))).thenReturn(false);
+        when(waitlistRepository.existsByCourseIdAndStudentId(2L, 1L)).thenReturn(true);
+
+        // Act
+        EnrollmentOutcome outcome = waitlistService.join(1L, 2L);
+
+        // Assert
+        assertEquals(EnrollmentOutcome.ALREADY_WAITLISTED, outcome);
+        verify(waitlistRepository, never()).save(any(WaitlistEntry.class));
+        verifyNoInteractions(waitlistPromoter);
+    }
+
+    @Test
+    @DisplayName("Should remove the ticket from cached positions and move the queue up when a student leaves")
+    void leave_Waiting_RemovesTicket() {
+        // Arrange
+        when(waitlistRepository.findTicketByCourseIdAndStudentId(2L, 1L)).thenReturn(Optional.of(7L));
+        when(waitlistRepository.deleteByTicket(7L)).thenReturn(1);
+
+        // Act & Assert
+        assertTrue(waitlistService.leave(1L, 2L));
+        verify(waitlistPositions).left(2L, List.of(7L));
+        verify(viewVersions).touchWaitersAfter(2L, 7L);
+    }
+
+    @Test
+    @DisplayName("Should report when the student was not waiting")
+    void leave_NotWaiting_ReturnsFalse() {
+        // Arrange
+        when(waitlistRepository.findTicketByCourseIdAndStudentId(2L, 1L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertFalse(waitlistService.leave(1L, 2L));
+        verifyNoInteractions(waitlistPositions);
+    }
+}